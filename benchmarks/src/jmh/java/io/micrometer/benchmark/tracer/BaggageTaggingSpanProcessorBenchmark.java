@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.otel.bridge.BaggageTaggingSpanProcessor;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Sets 2 tags from baggage of different sizes on a started span through
+ * {@link BaggageTaggingSpanProcessor#onStart(Context, ReadWriteSpan)}, in each of the
+ * {@link BaggageTaggingSpanProcessor.Mode modes} of the processor.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class BaggageTaggingSpanProcessorBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(BaggageTaggingSpanProcessorBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Thread)
+    public static class ProcessorState {
+
+        @Param({ "0", "2", "20" })
+        public int baggageSize;
+
+        @Param({ "ITERATE_BAGGAGE", "LOOKUP_TAGS" })
+        public BaggageTaggingSpanProcessor.Mode mode;
+
+        SdkTracerProvider sdkTracerProvider;
+
+        BaggageTaggingSpanProcessor spanProcessor;
+
+        Context context;
+
+        ReadWriteSpan span;
+
+        @Setup
+        public void setup() {
+            this.sdkTracerProvider = SdkTracerProvider.builder().setSampler(Sampler.alwaysOn()).build();
+            this.spanProcessor = new BaggageTaggingSpanProcessor(Arrays.asList("tenant", "region"), this.mode);
+            BaggageBuilder baggage = Baggage.builder();
+            for (int i = 0; i < this.baggageSize; i++) {
+                // the tagged entries are the last ones of the baggage
+                String key = i == this.baggageSize - 1 ? "tenant" : i == this.baggageSize - 2 ? "region" : "key-" + i;
+                baggage.put(key, "value-" + i);
+            }
+            this.context = Context.root().with(baggage.build());
+            this.span = (ReadWriteSpan) this.sdkTracerProvider.get("io.micrometer.micrometer-tracing")
+                .spanBuilder("span")
+                .startSpan();
+        }
+
+        @TearDown
+        public void tearDown() {
+            this.span.end();
+            this.sdkTracerProvider.close();
+        }
+
+    }
+
+    @Benchmark
+    public ReadWriteSpan onStart(ProcessorState state) {
+        state.spanProcessor.onStart(state.context, state.span);
+        return state.span;
+    }
+
+}
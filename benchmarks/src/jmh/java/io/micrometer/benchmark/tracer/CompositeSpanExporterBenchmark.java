@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import io.micrometer.tracing.exporter.SpanFilter;
+import io.micrometer.tracing.exporter.SpanReporter;
+import io.micrometer.tracing.otel.bridge.CompositeSpanExporter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exports batches of spans through a {@link CompositeSpanExporter} with 3 predicates, 2
+ * filters and 2 reporters. Only a tenth of the spans gets modified by the filters.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CompositeSpanExporterBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(CompositeSpanExporterBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExporterState {
+
+        @Param({ "100" })
+        public int batchSize;
+
+        SdkTracerProvider sdkTracerProvider;
+
+        List<SpanData> spans;
+
+        CompositeSpanExporter exporter;
+
+        long reported;
+
+        long reportedNameLength;
+
+        @Setup
+        public void setup() {
+            this.sdkTracerProvider = SdkTracerProvider.builder().setSampler(Sampler.alwaysOn()).build();
+            io.opentelemetry.api.trace.Tracer tracer = this.sdkTracerProvider.get("io.micrometer.micrometer-tracing");
+            this.spans = new ArrayList<>(this.batchSize);
+            for (int i = 0; i < this.batchSize; i++) {
+                Span span = tracer.spanBuilder(i % 10 == 0 ? "health" : "http get /orders")
+                    .setAttribute("http.method", "GET")
+                    .setAttribute("http.url", "/orders/" + i)
+                    .setAttribute("http.status_code", 200L)
+                    .setAttribute("peer.service", "orders")
+                    .startSpan();
+                span.addEvent("received");
+                span.end();
+                this.spans.add(((ReadableSpan) span).toSpanData());
+            }
+            List<SpanExportingPredicate> predicates = Arrays.asList(span -> !"health".equals(span.getName()),
+                    span -> span.getEndTimestamp().isAfter(span.getStartTimestamp().minusSeconds(1)),
+                    span -> span.getTags().containsKey("http.method"));
+            List<SpanFilter> filters = Arrays.asList(
+                    span -> span.getName().startsWith("admin") ? span.setName("admin") : span,
+                    span -> span.getTags().get("http.url").endsWith("5") ? span.setName("orders") : span);
+            List<SpanReporter> reporters = Arrays.asList(span -> this.reported++,
+                    span -> this.reportedNameLength += span.getName().length());
+            this.exporter = new CompositeSpanExporter(Collections.emptyList(), predicates, reporters, filters);
+        }
+
+        @TearDown
+        public void tearDown() {
+            this.sdkTracerProvider.close();
+        }
+
+    }
+
+    @Benchmark
+    public CompletableResultCode export(ExporterState state) {
+        return state.exporter.export(state.spans);
+    }
+
+}
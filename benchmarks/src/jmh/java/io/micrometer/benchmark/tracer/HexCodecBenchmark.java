@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.internal.HexCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Compares the {@link HexCodec} against the byte by byte table lookups previously used
+ * to encode and decode 128 bit trace ids.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class HexCodecBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(HexCodecBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Thread)
+    public static class IdState {
+
+        @Param({ "0b6aaf642574edd3dcebed0be190402d", "4bf92f3577b34da6a3ce929d0e0e4736" })
+        public String traceId;
+
+        long high;
+
+        long low;
+
+        final char[] buffer = new char[32];
+
+        @Setup
+        public void setup() {
+            this.high = TableLookup.decode(this.traceId, 0);
+            this.low = TableLookup.decode(this.traceId, 16);
+        }
+
+    }
+
+    @Benchmark
+    public void swarDecode(IdState state, Blackhole blackhole) {
+        blackhole.consume(HexCodec.decode(state.traceId, 0));
+        blackhole.consume(HexCodec.decode(state.traceId, 16));
+    }
+
+    @Benchmark
+    public void tableLookupDecode(IdState state, Blackhole blackhole) {
+        blackhole.consume(TableLookup.decode(state.traceId, 0));
+        blackhole.consume(TableLookup.decode(state.traceId, 16));
+    }
+
+    @Benchmark
+    public char[] swarEncode(IdState state) {
+        HexCodec.encode(state.high, state.buffer, 0);
+        HexCodec.encode(state.low, state.buffer, 16);
+        return state.buffer;
+    }
+
+    @Benchmark
+    public char[] tableLookupEncode(IdState state) {
+        TableLookup.encode(state.high, state.buffer, 0);
+        TableLookup.encode(state.low, state.buffer, 16);
+        return state.buffer;
+    }
+
+    static final class TableLookup {
+
+        private static final String ALPHABET = "0123456789abcdef";
+
+        private static final char[] ENCODING = new char[512];
+
+        private static final byte[] DECODING = new byte[128];
+
+        static {
+            for (int i = 0; i < 256; ++i) {
+                ENCODING[i] = ALPHABET.charAt(i >>> 4);
+                ENCODING[i | 0x100] = ALPHABET.charAt(i & 0xF);
+            }
+            Arrays.fill(DECODING, (byte) -1);
+            for (int i = 0; i < ALPHABET.length(); i++) {
+                DECODING[ALPHABET.charAt(i)] = (byte) i;
+            }
+        }
+
+        static long decode(CharSequence chars, int offset) {
+            long result = 0;
+            for (int i = 0; i < 16; i += 2) {
+                result = result << 8 | (decodeByte(chars.charAt(offset + i), chars.charAt(offset + i + 1)) & 0xFFL);
+            }
+            return result;
+        }
+
+        private static byte decodeByte(char hi, char lo) {
+            if (lo >= 128 || DECODING[lo] == -1 || hi >= 128 || DECODING[hi] == -1) {
+                throw new IllegalArgumentException("invalid character");
+            }
+            return (byte) (DECODING[hi] << 4 | DECODING[lo]);
+        }
+
+        static void encode(long value, char[] dest, int destOffset) {
+            for (int i = 0; i < 8; i++) {
+                int b = (int) (value >>> (56 - (i << 3)) & 0xFF);
+                dest[destOffset + (i << 1)] = ENCODING[b];
+                dest[destOffset + (i << 1) + 1] = ENCODING[b | 0x100];
+            }
+        }
+
+    }
+
+}
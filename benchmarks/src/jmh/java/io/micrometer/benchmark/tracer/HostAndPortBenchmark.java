@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.internal.HostAndPort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+
+/**
+ * Compares resolving host and port of a remote service address with
+ * {@link HostAndPort} against {@link URI#create(String)}, which the propagating
+ * observation handlers used for every message or request.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class HostAndPortBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(HostAndPortBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class AddressState {
+
+        @Param({ "http://orders-service.internal:8080/api/orders?page=1", "kafka://10.0.12.7:9092",
+                "not a valid uri" })
+        public String address;
+
+    }
+
+    @Benchmark
+    public void hostAndPort(AddressState state, Blackhole blackhole) {
+        HostAndPort hostAndPort = HostAndPort.parse(state.address);
+        if (hostAndPort != null) {
+            blackhole.consume(hostAndPort.getHost());
+            blackhole.consume(hostAndPort.getPort());
+        }
+    }
+
+    @Benchmark
+    public void uri(AddressState state, Blackhole blackhole) {
+        try {
+            URI uri = URI.create(state.address);
+            blackhole.consume(uri.getHost());
+            blackhole.consume(uri.getPort());
+        }
+        catch (Exception ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import brave.Tracing;
+import brave.handler.SpanHandler;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.brave.bridge.BraveBaggageManager;
+import io.micrometer.tracing.brave.bridge.BraveCurrentTraceContext;
+import io.micrometer.tracing.brave.bridge.BraveTracer;
+import io.micrometer.tracing.contextpropagation.ObservationAwareSpanThreadLocalAccessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link ContextSnapshot} capture and restore through the
+ * {@link ObservationAwareSpanThreadLocalAccessor} - what happens on every executor
+ * handoff or Reactor operator boundary.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ObservationAwareSpanThreadLocalAccessorBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ObservationAwareSpanThreadLocalAccessorBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class AccessorState {
+
+        @Param({ "1", "3" })
+        public int hops;
+
+        Tracing tracing;
+
+        Tracer tracer;
+
+        ContextSnapshotFactory snapshotFactory;
+
+        Span span;
+
+        @Setup
+        public void setup() {
+            ThreadLocalCurrentTraceContext braveCurrentTraceContext = ThreadLocalCurrentTraceContext.newBuilder()
+                .build();
+            this.tracing = Tracing.newBuilder()
+                .currentTraceContext(braveCurrentTraceContext)
+                .sampler(Sampler.ALWAYS_SAMPLE)
+                .addSpanHandler(SpanHandler.NOOP)
+                .build();
+            this.tracer = new BraveTracer(this.tracing.tracer(), new BraveCurrentTraceContext(braveCurrentTraceContext),
+                    new BraveBaggageManager());
+            ContextRegistry contextRegistry = new ContextRegistry().registerThreadLocalAccessor(
+                    new ObservationAwareSpanThreadLocalAccessor(ObservationRegistry.create(), this.tracer));
+            this.snapshotFactory = ContextSnapshotFactory.builder().contextRegistry(contextRegistry).build();
+            this.span = this.tracer.nextSpan().name("span").start();
+        }
+
+        @TearDown
+        public void close() {
+            this.span.end();
+            this.tracing.close();
+        }
+
+    }
+
+    @Benchmark
+    public void captureAndRestore(AccessorState state, Blackhole blackhole) {
+        captureAndRestore(state, state.hops, blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void captureAndRestoreContended(AccessorState state, Blackhole blackhole) {
+        captureAndRestore(state, state.hops, blackhole);
+    }
+
+    private static void captureAndRestore(AccessorState state, int hops, Blackhole blackhole) {
+        try (Tracer.SpanInScope ws = state.tracer.withSpan(state.span)) {
+            ContextSnapshot snapshot = state.snapshotFactory.captureAll();
+            hop(state, snapshot, hops, blackhole);
+        }
+    }
+
+    private static void hop(AccessorState state, ContextSnapshot snapshot, int remainingHops, Blackhole blackhole) {
+        if (remainingHops == 0) {
+            blackhole.consume(state.tracer.currentSpan());
+            return;
+        }
+        // nested restores - the accessor keeps a chain of actions per thread
+        try (ContextSnapshot.Scope scope = snapshot.setThreadLocals()) {
+            hop(state, snapshot, remainingHops - 1, blackhole);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelSpan;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Opens and closes nested scopes of already started spans through
+ * {@link OtelCurrentTraceContext#newScope(TraceContext)}, with and without baggage that
+ * differs between the current context and the context being put in scope.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class OtelNestedScopesBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(OtelNestedScopesBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Thread)
+    public static class ScopesState {
+
+        @Param({ "3" })
+        public int depth;
+
+        @Param({ "false", "true" })
+        public boolean baggage;
+
+        SdkTracerProvider sdkTracerProvider;
+
+        OtelCurrentTraceContext currentTraceContext;
+
+        TraceContext[] contexts;
+
+        CurrentTraceContext.Scope[] scopes;
+
+        @Setup
+        public void setup() {
+            this.sdkTracerProvider = SdkTracerProvider.builder().setSampler(Sampler.alwaysOn()).build();
+            io.opentelemetry.api.trace.Tracer tracer = this.sdkTracerProvider.get("io.micrometer.micrometer-tracing");
+            this.currentTraceContext = new OtelCurrentTraceContext();
+            this.contexts = new TraceContext[this.depth];
+            this.scopes = new CurrentTraceContext.Scope[this.depth];
+            Context context = Context.root();
+            for (int i = 0; i < this.depth; i++) {
+                io.opentelemetry.api.trace.Span span = tracer.spanBuilder("span-" + i).setParent(context).startSpan();
+                context = context.with(span);
+                if (this.baggage) {
+                    // every span gets its own baggage, so that it has to be merged with the
+                    // baggage of the enclosing scope
+                    context = context.with(Baggage.builder().put("tenant-" + i, "value").build());
+                }
+                this.contexts[i] = OtelSpan.fromOtel(span, context).context();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            this.sdkTracerProvider.close();
+        }
+
+    }
+
+    @Benchmark
+    public CurrentTraceContext.Scope[] nestedScopes(ScopesState state) {
+        for (int i = 0; i < state.depth; i++) {
+            state.scopes[i] = state.currentTraceContext.newScope(state.contexts[i]);
+        }
+        for (int i = state.depth - 1; i >= 0; i--) {
+            state.scopes[i].close();
+        }
+        return state.scopes;
+    }
+
+    @Benchmark
+    public CurrentTraceContext.Scope[] reenteredScopes(ScopesState state) {
+        // the same context put in scope again, e.g. by nested observations of one span
+        state.scopes[0] = state.currentTraceContext.newScope(state.contexts[0]);
+        for (int i = 1; i < state.depth; i++) {
+            state.scopes[i] = state.currentTraceContext.newScope(state.contexts[0]);
+        }
+        for (int i = state.depth - 1; i >= 0; i--) {
+            state.scopes[i].close();
+        }
+        return state.scopes;
+    }
+
+}
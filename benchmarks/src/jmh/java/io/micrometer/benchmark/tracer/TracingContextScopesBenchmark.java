@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.handler.TracingObservationHandler.TracingContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scope tracking of {@link TracingContext}. The {@code map} strategy keeps every
+ * scope in a {@link ConcurrentHashMap} keyed by thread, the way it was done before the
+ * inline owner thread slot was introduced.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TracingContextScopesBenchmark {
+
+    private static final CurrentTraceContext.Scope SCOPE = () -> {
+    };
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(TracingContextScopesBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    static TracingContext tracingContext(String strategy) {
+        return "map".equals(strategy) ? new MapTracingContext() : new TracingContext();
+    }
+
+    static void nestedScopes(TracingContext tracingContext, int depth, Blackhole blackhole) {
+        CurrentTraceContext.Scope previous = tracingContext.getScope();
+        for (int i = 0; i < depth; i++) {
+            tracingContext.setScope(SCOPE);
+            blackhole.consume(tracingContext.getScope());
+        }
+        tracingContext.setScope(previous);
+    }
+
+    @State(Scope.Thread)
+    public static class SingleThreadState {
+
+        @Param({ "inline", "map" })
+        public String strategy;
+
+        @Param({ "3" })
+        public int depth;
+
+    }
+
+    @Benchmark
+    public void singleThreadScopes(SingleThreadState state, Blackhole blackhole) {
+        // new observation per invocation - most observations are scoped on one thread only
+        nestedScopes(tracingContext(state.strategy), state.depth, blackhole);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedObservationState {
+
+        @Param({ "inline", "map" })
+        public String strategy;
+
+        @Param({ "3" })
+        public int depth;
+
+        TracingContext tracingContext;
+
+        @Setup
+        public void setup() {
+            this.tracingContext = tracingContext(this.strategy);
+        }
+
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void sharedObservationScopes(SharedObservationState state, Blackhole blackhole) {
+        // the same observation scoped on several platform threads at once
+        nestedScopes(state.tracingContext, state.depth, blackhole);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExecutorState {
+
+        @Param({ "inline", "map" })
+        public String strategy;
+
+        @Param({ "platform", "virtual" })
+        public String threads;
+
+        @Param({ "1000" })
+        public int taskCount;
+
+        @Param({ "3" })
+        public int depth;
+
+        ExecutorService executorService;
+
+        @Setup
+        public void setup() throws Exception {
+            if ("virtual".equals(this.threads)) {
+                // JDK 21+ only, we're compiling against Java 8
+                this.executorService = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            }
+            else {
+                this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+            }
+        }
+
+        @TearDown
+        public void close() throws InterruptedException {
+            this.executorService.shutdown();
+            this.executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Benchmark
+    public void executorScopes(ExecutorState state, Blackhole blackhole) throws InterruptedException {
+        // one observation propagated to many tasks, e.g. a fan-out of a single request
+        TracingContext tracingContext = tracingContext(state.strategy);
+        CountDownLatch latch = new CountDownLatch(state.taskCount);
+        for (int i = 0; i < state.taskCount; i++) {
+            state.executorService.execute(() -> {
+                nestedScopes(tracingContext, state.depth, blackhole);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+
+    static class MapTracingContext extends TracingContext {
+
+        private final Map<Thread, CurrentTraceContext.Scope> scopes = new ConcurrentHashMap<>();
+
+        @Override
+        public CurrentTraceContext.Scope getScope() {
+            return this.scopes.get(Thread.currentThread());
+        }
+
+        @Override
+        public void setScope(CurrentTraceContext.Scope scope) {
+            if (scope == null) {
+                this.scopes.remove(Thread.currentThread());
+            }
+            else {
+                this.scopes.put(Thread.currentThread(), scope);
+            }
+        }
+
+    }
+
+}
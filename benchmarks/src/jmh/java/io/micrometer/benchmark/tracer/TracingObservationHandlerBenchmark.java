@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.tracer;
+
+import brave.Tracing;
+import brave.handler.SpanHandler;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.brave.bridge.BraveBaggageManager;
+import io.micrometer.tracing.brave.bridge.BraveCurrentTraceContext;
+import io.micrometer.tracing.brave.bridge.BraveTracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per observation cost of {@link DefaultTracingObservationHandler} for a
+ * full lifecycle (start, scope, event, stop). The {@code legacy} handler resolves the
+ * tracing context through {@code computeIfAbsent} on every callback.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TracingObservationHandlerBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(TracingObservationHandlerBenchmark.class.getSimpleName())
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.SampleTime)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ObservationState {
+
+        @Param({ "default", "legacy" })
+        public String handler;
+
+        @Param({ "3" })
+        public int scopeCount;
+
+        ThreadLocalCurrentTraceContext braveCurrentTraceContext;
+
+        Tracing tracing;
+
+        Tracer tracer;
+
+        ObservationRegistry registry;
+
+        @Setup
+        public void setup() {
+            this.braveCurrentTraceContext = ThreadLocalCurrentTraceContext.newBuilder().build();
+            this.tracing = Tracing.newBuilder()
+                .currentTraceContext(this.braveCurrentTraceContext)
+                .sampler(Sampler.ALWAYS_SAMPLE)
+                .addSpanHandler(SpanHandler.NOOP)
+                .build();
+            this.tracer = new BraveTracer(this.tracing.tracer(),
+                    new BraveCurrentTraceContext(this.braveCurrentTraceContext), new BraveBaggageManager());
+            this.registry = ObservationRegistry.create();
+            this.registry.observationConfig()
+                .observationHandler("legacy".equals(this.handler) ? new LegacyTracingObservationHandler(this.tracer)
+                        : new DefaultTracingObservationHandler(this.tracer));
+        }
+
+        @TearDown
+        public void close() {
+            this.tracing.close();
+        }
+
+    }
+
+    @Benchmark
+    public Observation observationLifecycle(ObservationState state) {
+        Observation observation = Observation.start("observation", state.registry)
+            .lowCardinalityKeyValue("key", "value");
+        for (int i = 0; i < state.scopeCount; i++) {
+            try (Observation.Scope scope = observation.openScope()) {
+                observation.event(Observation.Event.of("event"));
+            }
+        }
+        observation.stop();
+        return observation;
+    }
+
+    /**
+     * Resolves the tracing context the way it was resolved before the plain lookup fast
+     * path was introduced.
+     */
+    static class LegacyTracingObservationHandler extends DefaultTracingObservationHandler {
+
+        LegacyTracingObservationHandler(Tracer tracer) {
+            super(tracer);
+        }
+
+        @Override
+        public TracingContext getTracingContext(Observation.Context context) {
+            return context.computeIfAbsent(TracingContext.class, clazz -> new TracingContext());
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.brave.bridge;
+
+import brave.Span;
+import brave.Tags;
+import brave.baggage.BaggageField;
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import io.micrometer.tracing.CurrentTraceContext;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brave implementation of a scope of multiple baggage entries. Updates all the entries on
+ * the given {@link brave.propagation.TraceContext} at once and reverts them to their
+ * previous values on close.
+ *
+ * @since 1.7.0
+ */
+class BraveBaggageEntriesInScope implements CurrentTraceContext.Scope {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(BraveBaggageEntriesInScope.class);
+
+    private final brave.propagation.TraceContext traceContext;
+
+    private final BaggageField[] fields;
+
+    private final @Nullable String[] previousValues;
+
+    BraveBaggageEntriesInScope(brave.propagation.TraceContext traceContext, @Nullable Span span,
+            List<String> tagFields, Map<String, String> baggage) {
+        this.traceContext = traceContext;
+        this.fields = new BaggageField[baggage.size()];
+        this.previousValues = new String[baggage.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : baggage.entrySet()) {
+            BaggageField field = BaggageField.create(entry.getKey());
+            this.fields[i] = field;
+            this.previousValues[i] = field.getValue(traceContext);
+            boolean success = field.updateValue(traceContext, entry.getValue());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Managed to update the baggage [" + field.name() + "] on make current [" + success
+                        + "]. Provided value [" + entry.getValue() + "]");
+            }
+            if (span != null && isTagField(tagFields, field.name())) {
+                Tags.BAGGAGE_FIELD.tag(field, span);
+            }
+            i++;
+        }
+    }
+
+    private static boolean isTagField(List<String> tagFields, String name) {
+        for (String tagField : tagFields) {
+            if (tagField.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        for (int i = this.fields.length - 1; i >= 0; i--) {
+            boolean success = this.fields[i].updateValue(this.traceContext, this.previousValues[i]);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Managed to update the baggage [" + this.fields[i].name() + "] on close [" + success
+                        + "]");
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BraveBaggageEntriesInScope{" + "fields=" + Arrays.toString(this.fields) + ", traceContext="
+                + this.traceContext + '}';
+    }
+
+}
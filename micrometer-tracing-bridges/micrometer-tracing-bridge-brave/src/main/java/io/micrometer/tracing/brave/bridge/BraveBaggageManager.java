@@ -38,6 +38,8 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
 
     private final List<String> baggageFields;
 
+    private final BaggageFieldIndex baggageFieldIndex;
+
     private @Nullable Tracer tracer;
 
     /**
@@ -49,6 +51,7 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
         this.tagFields = tagFields;
         this.remoteFields = remoteFields;
         this.baggageFields = baggageFields(tagFields, remoteFields);
+        this.baggageFieldIndex = BaggageFieldIndex.of(this.baggageFields);
     }
 
     private static List<String> baggageFields(List<String> tagFields, List<String> remoteFields) {
@@ -65,6 +68,7 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
         this.tagFields = Collections.emptyList();
         this.remoteFields = Collections.emptyList();
         this.baggageFields = Collections.emptyList();
+        this.baggageFieldIndex = BaggageFieldIndex.EMPTY;
     }
 
     /**
@@ -75,6 +79,7 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
         this.tagFields = tagFields;
         this.remoteFields = Collections.emptyList();
         this.baggageFields = new ArrayList<>(tagFields);
+        this.baggageFieldIndex = BaggageFieldIndex.of(this.baggageFields);
     }
 
     @Override
@@ -151,6 +156,15 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
         return baggage(name, traceContext).makeCurrent(traceContext, value);
     }
 
+    @Override
+    public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext, Map<String, String> baggage) {
+        brave.propagation.TraceContext braveContext = BraveTraceContext.toBrave(traceContext);
+        if (baggage.isEmpty() || braveContext == null) {
+            return CurrentTraceContext.Scope.NOOP;
+        }
+        return new BraveBaggageEntriesInScope(braveContext, currentSpan(), this.tagFields, baggage);
+    }
+
     @Override
     public void close() {
         // We used to cache baggage fields
@@ -165,4 +179,9 @@ public class BraveBaggageManager implements Closeable, BaggageManager {
         return this.baggageFields;
     }
 
+    @Override
+    public BaggageFieldIndex getBaggageFieldIndex() {
+        return this.baggageFieldIndex;
+    }
+
 }
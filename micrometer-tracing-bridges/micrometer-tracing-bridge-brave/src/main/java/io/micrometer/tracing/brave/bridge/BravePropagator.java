@@ -61,6 +61,14 @@ public class BravePropagator implements Propagator {
         return BraveSpanBuilder.toBuilder(this.tracing.tracer(), extract);
     }
 
+    @Override
+    public <C> @Nullable TraceContext extractContext(@Nullable C carrier, Getter<C> getter) {
+        TraceContextOrSamplingFlags extract = this.tracing.propagation().extractor(getter::get).extract(carrier);
+        updateExistingBaggageFieldsWithUpdatedValues(extract);
+        brave.propagation.TraceContext context = extract.context();
+        return context != null ? BraveTraceContext.fromBrave(context) : null;
+    }
+
     private void updateExistingBaggageFieldsWithUpdatedValues(TraceContextOrSamplingFlags extract) {
         if (extract.context() == null) {
             return;
@@ -16,7 +16,9 @@
 package io.micrometer.tracing.brave.bridge;
 
 import brave.Tracer;
+import brave.handler.MutableSpan;
 import brave.propagation.TraceContextOrSamplingFlags;
+import brave.sampler.SamplerFunction;
 import io.micrometer.tracing.Link;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.TraceContext;
@@ -38,6 +40,8 @@ class BraveSpanBuilder implements Span.Builder {
 
     private final Tracer tracer;
 
+    private final @Nullable SamplerFunction<MutableSpan> sampler;
+
     brave.@Nullable Span delegate;
 
     @Nullable TraceContextOrSamplingFlags parentContext;
@@ -61,11 +65,17 @@ class BraveSpanBuilder implements Span.Builder {
     private int port;
 
     BraveSpanBuilder(Tracer tracer) {
+        this(tracer, (SamplerFunction<MutableSpan>) null);
+    }
+
+    BraveSpanBuilder(Tracer tracer, @Nullable SamplerFunction<MutableSpan> sampler) {
         this.tracer = tracer;
+        this.sampler = sampler;
     }
 
     BraveSpanBuilder(Tracer tracer, TraceContextOrSamplingFlags parentContext) {
         this.tracer = tracer;
+        this.sampler = null;
         this.parentContext = parentContext;
     }
 
@@ -75,7 +85,10 @@ class BraveSpanBuilder implements Span.Builder {
 
     private brave.Span span() {
         brave.Span span;
-        if (this.parentContext != null) {
+        if (this.sampler != null) {
+            span = sampledSpan(this.sampler);
+        }
+        else if (this.parentContext != null) {
             span = this.tracer.nextSpan(this.parentContext);
         }
         else {
@@ -92,6 +105,31 @@ class BraveSpanBuilder implements Span.Builder {
         return span;
     }
 
+    private brave.Span sampledSpan(SamplerFunction<MutableSpan> sampler) {
+        TraceContextOrSamplingFlags parentContext = this.parentContext;
+        if (parentContext == null) {
+            return this.tracer.nextSpan(sampler, toMutableSpan());
+        }
+        // same as Brave's HTTP handlers - only undecided traces are sampled
+        if (parentContext.sampled() == null) {
+            Boolean sampled = sampler.trySample(toMutableSpan());
+            if (sampled != null) {
+                parentContext = parentContext.sampled(sampled);
+            }
+        }
+        return this.tracer.nextSpan(parentContext);
+    }
+
+    private MutableSpan toMutableSpan() {
+        MutableSpan mutableSpan = new MutableSpan();
+        mutableSpan.name(this.name);
+        mutableSpan.kind(this.kind);
+        this.tags.forEach(mutableSpan::tag);
+        mutableSpan.remoteServiceName(this.remoteServiceName);
+        mutableSpan.remoteIpAndPort(this.ip, this.port);
+        return mutableSpan;
+    }
+
     @Override
     public Span.Builder setParent(TraceContext context) {
         this.parentContext = TraceContextOrSamplingFlags.create(BraveTraceContext.toBrave(context));
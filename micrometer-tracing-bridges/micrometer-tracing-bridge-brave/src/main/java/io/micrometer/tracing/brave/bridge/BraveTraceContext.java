@@ -69,6 +69,26 @@ public class BraveTraceContext implements TraceContext {
         return this.traceContext.parentIdString();
     }
 
+    @Override
+    public long traceIdHigh() {
+        return this.traceContext.traceIdHigh();
+    }
+
+    @Override
+    public long traceIdLow() {
+        return this.traceContext.traceId();
+    }
+
+    @Override
+    public long parentIdAsLong() {
+        return this.traceContext.parentIdAsLong();
+    }
+
+    @Override
+    public long spanIdAsLong() {
+        return this.traceContext.spanId();
+    }
+
     @Override
     public String spanId() {
         return this.traceContext.spanIdString();
@@ -15,7 +15,9 @@
  */
 package io.micrometer.tracing.brave.bridge;
 
+import brave.handler.MutableSpan;
 import brave.propagation.TraceContextOrSamplingFlags;
+import brave.sampler.SamplerFunction;
 import org.jspecify.annotations.Nullable;
 import io.micrometer.tracing.*;
 
@@ -36,6 +38,8 @@ public class BraveTracer implements Tracer {
 
     private final CurrentTraceContext currentTraceContext;
 
+    private final @Nullable SamplerFunction<MutableSpan> spanBuilderSampler;
+
     /**
      * Creates a new instance of {@link BraveTracer}.
      * @param tracer Brave Tracer
@@ -43,9 +47,27 @@ public class BraveTracer implements Tracer {
      * @param braveBaggageManager Brave baggage manager
      */
     public BraveTracer(brave.Tracer tracer, CurrentTraceContext context, BaggageManager braveBaggageManager) {
+        this(tracer, context, braveBaggageManager, null);
+    }
+
+    /**
+     * Creates a new instance of {@link BraveTracer} that consults the given sampler
+     * function for spans created via {@link #spanBuilder()}. The function receives the
+     * name, kind, tags and remote endpoint set on the builder, so that spans can be
+     * dropped before they are recorded. When it returns {@code null} the decision is
+     * left to the sampler configured on {@link brave.Tracing}.
+     * @param tracer Brave Tracer
+     * @param context Brave context
+     * @param braveBaggageManager Brave baggage manager
+     * @param spanBuilderSampler sampler function for spans created via span builders
+     * @since 1.7.0
+     */
+    public BraveTracer(brave.Tracer tracer, CurrentTraceContext context, BaggageManager braveBaggageManager,
+            @Nullable SamplerFunction<MutableSpan> spanBuilderSampler) {
         this.tracer = tracer;
         this.braveBaggageManager = braveBaggageManager;
         this.currentTraceContext = context;
+        this.spanBuilderSampler = spanBuilderSampler;
         if (braveBaggageManager instanceof BraveBaggageManager) {
             ((BraveBaggageManager) braveBaggageManager).setTracer(this);
         }
@@ -103,7 +125,7 @@ public class BraveTracer implements Tracer {
 
     @Override
     public Span.Builder spanBuilder() {
-        return new BraveSpanBuilder(this.tracer);
+        return new BraveSpanBuilder(this.tracer, this.spanBuilderSampler);
     }
 
     @Override
@@ -153,6 +175,11 @@ public class BraveTracer implements Tracer {
         return this.braveBaggageManager.createBaggageInScope(traceContext, name, value);
     }
 
+    @Override
+    public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext, Map<String, String> baggage) {
+        return this.braveBaggageManager.createBaggageInScope(traceContext, baggage);
+    }
+
     @Override
     public CurrentTraceContext currentTraceContext() {
         return this.currentTraceContext;
@@ -163,6 +190,11 @@ public class BraveTracer implements Tracer {
         return this.braveBaggageManager.getBaggageFields();
     }
 
+    @Override
+    public BaggageFieldIndex getBaggageFieldIndex() {
+        return this.braveBaggageManager.getBaggageFieldIndex();
+    }
+
 }
 
 class BraveSpanInScope implements Tracer.SpanInScope {
@@ -17,6 +17,7 @@ package io.micrometer.tracing.brave.bridge;
 
 import brave.Span;
 import brave.Tracer;
+import brave.baggage.BaggageField;
 import brave.internal.baggage.BaggageFields;
 import brave.propagation.Propagation;
 import brave.propagation.TraceContext;
@@ -30,6 +31,7 @@ import io.micrometer.tracing.Baggage;
 import io.micrometer.tracing.BaggageManager;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static brave.propagation.tracecontext.TraceContextPropagation.TRACEPARENT;
 import static brave.propagation.tracecontext.TraceContextPropagation.TRACESTATE;
@@ -99,11 +101,12 @@ public class W3CPropagation extends Propagation.Factory implements Propagation<S
 
     private <R> void addTraceState(Setter<R, String> setter, TraceContext context, R carrier) {
         if (carrier != null && this.braveBaggageManager != null) {
-            Baggage baggage = this.braveBaggageManager.getBaggage(BraveTraceContext.fromBrave(context), TRACESTATE);
+            io.micrometer.tracing.TraceContext traceContext = BraveTraceContext.fromBrave(context);
+            Baggage baggage = this.braveBaggageManager.getBaggage(traceContext, TRACESTATE);
             if (baggage == null) {
                 return;
             }
-            String traceState = baggage.get(BraveTraceContext.fromBrave(context));
+            String traceState = baggage.get(traceContext);
             if (StringUtils.isNotBlank(traceState)) {
                 setter.put(carrier, TRACESTATE, traceState);
             }
@@ -196,13 +199,18 @@ class W3CBaggagePropagator {
 
     private static final List<String> FIELDS = singletonList(FIELD);
 
+    private static final int HEADER_CACHE_SIZE = 64;
+
     private final BaggageManager braveBaggageManager;
 
-    private final List<String> localFields;
+    private final Set<String> localFields;
+
+    private final AtomicReferenceArray<@Nullable EncodedBaggage> headerCache = new AtomicReferenceArray<>(
+            HEADER_CACHE_SIZE);
 
     W3CBaggagePropagator(BaggageManager baggageManager, List<String> localFields) {
         this.braveBaggageManager = baggageManager;
-        this.localFields = localFields;
+        this.localFields = new HashSet<>(localFields);
     }
 
     public List<String> keys() {
@@ -212,32 +220,62 @@ class W3CBaggagePropagator {
     public <R> TraceContext.Injector<R> injector(Propagation.Setter<R, String> setter) {
         return (context, carrier) -> {
             BaggageFields extra = context.findExtra(BaggageFields.class);
-            if (extra == null || extra.getAllFields().isEmpty()) {
+            if (extra == null) {
                 return;
             }
-            StringBuilder headerContent = new StringBuilder();
-            // We ignore local keys - they won't get propagated
-            String[] strings = this.localFields.toArray(new String[0]);
-            Map<String, String> filtered = extra.toMapFilteringFieldNames(strings);
-            for (Map.Entry<String, String> entry : filtered.entrySet()) {
-                if (TRACE_STATE.equalsIgnoreCase(entry.getKey())) {
-                    continue;
-                }
-                headerContent.append(entry.getKey()).append("=").append(entry.getValue());
-                // TODO: [OTEL] No metadata support
-                // String metadataValue = entry.getEntryMetadata().getValue();
-                // if (metadataValue != null && !metadataValue.isEmpty()) {
-                // headerContent.append(";").append(metadataValue);
-                // }
-                headerContent.append(",");
+            List<BaggageField> fields = extra.getAllFields();
+            if (fields.isEmpty()) {
+                return;
             }
-            if (headerContent.length() > 0) {
-                headerContent.setLength(headerContent.length() - 1);
-                setter.put(carrier, FIELD, headerContent.toString());
+            String header = encodedHeader(context, extra, fields);
+            if (header != null) {
+                setter.put(carrier, FIELD, header);
             }
         };
     }
 
+    // children of the same span share the baggage, so its header is cached in a slot
+    // picked by the trace and parent span ids and reused as long as the values match
+    private @Nullable String encodedHeader(TraceContext context, BaggageFields extra, List<BaggageField> fields) {
+        long ids = context.traceId() ^ context.parentIdAsLong();
+        int slot = (int) (ids ^ (ids >>> 32)) & (HEADER_CACHE_SIZE - 1);
+        EncodedBaggage cached = this.headerCache.get(slot);
+        if (cached != null && cached.matches(extra, fields)) {
+            return cached.header;
+        }
+        EncodedBaggage encoded = encode(extra, fields);
+        this.headerCache.set(slot, encoded);
+        return encoded.header;
+    }
+
+    private EncodedBaggage encode(BaggageFields extra, List<BaggageField> fields) {
+        BaggageField[] encodedFields = fields.toArray(new BaggageField[0]);
+        @Nullable String[] values = new String[encodedFields.length];
+        StringBuilder headerContent = new StringBuilder();
+        for (int i = 0; i < encodedFields.length; i++) {
+            BaggageField field = encodedFields[i];
+            @Nullable String value = extra.getValue(field);
+            values[i] = value;
+            // We ignore local keys - they won't get propagated
+            if (value == null || this.localFields.contains(field.name())
+                    || TRACE_STATE.equalsIgnoreCase(field.name())) {
+                continue;
+            }
+            headerContent.append(field.name()).append("=").append(value);
+            // TODO: [OTEL] No metadata support
+            // String metadataValue = entry.getEntryMetadata().getValue();
+            // if (metadataValue != null && !metadataValue.isEmpty()) {
+            // headerContent.append(";").append(metadataValue);
+            // }
+            headerContent.append(",");
+        }
+        if (headerContent.length() == 0) {
+            return new EncodedBaggage(encodedFields, values, null);
+        }
+        headerContent.setLength(headerContent.length() - 1);
+        return new EncodedBaggage(encodedFields, values, headerContent.toString());
+    }
+
     <R> TraceContextOrSamplingFlags contextWithBaggage(R carrier, TraceContextOrSamplingFlags flags,
             Propagation.Getter<R, String> getter) {
         String baggageHeader = getter.get(carrier, FIELD);
@@ -279,4 +317,36 @@ class W3CBaggagePropagator {
         return pairs;
     }
 
+    /**
+     * Encoded baggage header together with the fields and values it was encoded from.
+     */
+    static final class EncodedBaggage {
+
+        private final BaggageField[] fields;
+
+        private final @Nullable String[] values;
+
+        private final @Nullable String header;
+
+        EncodedBaggage(BaggageField[] fields, @Nullable String[] values, @Nullable String header) {
+            this.fields = fields;
+            this.values = values;
+            this.header = header;
+        }
+
+        boolean matches(BaggageFields extra, List<BaggageField> fields) {
+            if (this.fields.length != fields.size()) {
+                return false;
+            }
+            for (int i = 0; i < this.fields.length; i++) {
+                BaggageField field = fields.get(i);
+                if (this.fields[i] != field || !Objects.equals(this.values[i], extra.getValue(field))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
 }
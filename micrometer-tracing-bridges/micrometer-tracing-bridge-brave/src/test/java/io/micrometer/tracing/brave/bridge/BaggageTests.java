@@ -119,6 +119,27 @@ class BaggageTests {
         }
     }
 
+    @Test
+    void canSetAndRevertMultipleBaggageEntriesAtOnce() {
+        // GIVEN
+        Span span = tracer.nextSpan().start();
+        Map<String, String> baggage = new HashMap<>();
+        baggage.put(KEY_1, VALUE_1);
+        baggage.put(TAG_KEY, TAG_VALUE);
+        try (Tracer.SpanInScope spanInScope = tracer.withSpan(span)) {
+            // WHEN
+            try (CurrentTraceContext.Scope scope = this.tracer.createBaggageInScope(span.context(), baggage)) {
+                // THEN
+                then(tracer.getBaggage(KEY_1).get()).isEqualTo(VALUE_1);
+                then(tracer.getBaggage(TAG_KEY).get()).isEqualTo(TAG_VALUE);
+            }
+            then(tracer.getAllBaggage(span.context())).doesNotContainKeys(KEY_1, TAG_KEY);
+        }
+        span.end();
+
+        then(spanHandler.get(0).tags()).containsEntry(TAG_KEY, TAG_VALUE);
+    }
+
     @Test
     void canSetAndGetBaggageWithLegacyApi() {
         // GIVEN
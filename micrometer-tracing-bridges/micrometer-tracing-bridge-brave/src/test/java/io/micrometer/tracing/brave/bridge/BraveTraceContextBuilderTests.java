@@ -54,4 +54,19 @@ class BraveTraceContextBuilderTests {
         then(traceContext.sampled()).isTrue();
     }
 
+    @Test
+    void should_expose_ids_as_longs() {
+        BraveTraceContextBuilder builder = new BraveTraceContextBuilder();
+
+        TraceContext traceContext = builder.parentId("7c6239a5ad0a4287")
+            .spanId("caff89f7f0f229dd")
+            .traceId("596e1787feb11040caff89f7f0f229dd")
+            .build();
+
+        then(traceContext.traceIdHigh()).isEqualTo(0x596e1787feb11040L);
+        then(traceContext.traceIdLow()).isEqualTo(0xcaff89f7f0f229ddL);
+        then(traceContext.spanIdAsLong()).isEqualTo(0xcaff89f7f0f229ddL);
+        then(traceContext.parentIdAsLong()).isEqualTo(0x7c6239a5ad0a4287L);
+    }
+
 }
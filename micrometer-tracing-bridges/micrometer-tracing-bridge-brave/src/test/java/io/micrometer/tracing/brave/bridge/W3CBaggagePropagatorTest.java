@@ -243,6 +243,30 @@ class W3CBaggagePropagatorTest {
                 singletonMap("baggage", "nometa=nometa-value,meta=meta-value;somemetadata; someother=foo"));
     }
 
+    @Test
+    void inject_reusesHeaderUntilBaggageChanges() {
+        TraceContextOrSamplingFlags.Builder builder = context().toBuilder();
+        BaggageField country = BaggageField.create("country");
+        BaggageField user = BaggageField.create("user");
+        builder.addExtra(BaggageFields.newFactory(Arrays.asList(country, user), 10).create());
+        TraceContext parent = builder.build().context();
+        country.updateValue(parent, "FO");
+        TraceContext.Injector<Map<String, String>> injector = propagator
+            .injector((Propagation.Setter<Map<String, String>, String>) Map::put);
+        Map<String, String> first = new HashMap<>();
+        Map<String, String> second = new HashMap<>();
+        Map<String, String> third = new HashMap<>();
+
+        injector.inject(parent.toBuilder().parentId(2L).spanId(3L).build(), first);
+        injector.inject(parent.toBuilder().parentId(2L).spanId(4L).build(), second);
+        user.updateValue(parent, "bob");
+        injector.inject(parent.toBuilder().parentId(2L).spanId(5L).build(), third);
+
+        assertThat(first.get("baggage")).isEqualTo("country=FO");
+        assertThat(second.get("baggage")).isSameAs(first.get("baggage"));
+        assertThat(third.get("baggage")).isEqualTo("country=FO,user=bob");
+    }
+
     @Test
     void works_with_scopes_and_observations() {
         // Baggage
@@ -270,6 +270,33 @@ class DefaultTracingObservationHandlerBraveTests {
         then(tracer.currentSpan()).isNull();
     }
 
+    @Test
+    void should_pass_key_values_to_sampler_when_starting_span() {
+        Tracer samplingTracer = new BraveTracer(tracing.tracer(),
+                new BraveCurrentTraceContext(tracing.currentTraceContext()), new BraveBaggageManager(),
+                span -> "/health".equals(span.tag("uri")) ? false : null);
+        DefaultTracingObservationHandler samplingHandler = new DefaultTracingObservationHandler(samplingTracer);
+        samplingHandler.setStartSpansWithKeyValues(true);
+        TestObservationRegistry registry = TestObservationRegistry.create();
+        registry.observationConfig().observationHandler(samplingHandler);
+
+        Observation health = Observation.createNotStarted("health", registry)
+            .lowCardinalityKeyValue("uri", "/health")
+            .start();
+        then(getSpanFromObservation(health).isNoop()).isTrue();
+        health.stop();
+
+        Observation orders = Observation.createNotStarted("orders", registry)
+            .lowCardinalityKeyValue("uri", "/orders")
+            .start();
+        then(getSpanFromObservation(orders).isNoop()).isFalse();
+        orders.stop();
+
+        MutableSpan mutableSpan = takeOnlySpan();
+        then(mutableSpan.name()).isEqualTo("orders");
+        then(mutableSpan.tags()).containsEntry("uri", "/orders");
+    }
+
     private static Span getSpanFromObservation(Observation parent) {
         TracingObservationHandler.TracingContext tracingContext = parent.getContextView()
             .getOrDefault(TracingObservationHandler.TracingContext.class,
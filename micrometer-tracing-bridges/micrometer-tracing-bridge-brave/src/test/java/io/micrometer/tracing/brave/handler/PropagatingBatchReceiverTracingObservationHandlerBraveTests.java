@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.brave.handler;
+
+import brave.Tracing;
+import brave.test.TestSpanHandler;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.brave.bridge.BraveBaggageManager;
+import io.micrometer.tracing.brave.bridge.BraveCurrentTraceContext;
+import io.micrometer.tracing.brave.bridge.BraveFinishedSpan;
+import io.micrometer.tracing.brave.bridge.BravePropagator;
+import io.micrometer.tracing.brave.bridge.BraveTracer;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.handler.BatchReceiverContext;
+import io.micrometer.tracing.handler.PropagatingBatchReceiverTracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@SuppressWarnings("unchecked")
+class PropagatingBatchReceiverTracingObservationHandlerBraveTests {
+
+    TestSpanHandler testSpanHandler = new TestSpanHandler();
+
+    Tracing tracing = Tracing.newBuilder().addSpanHandler(testSpanHandler).build();
+
+    Tracer tracer = new BraveTracer(tracing.tracer(), new BraveCurrentTraceContext(tracing.currentTraceContext()),
+            new BraveBaggageManager());
+
+    Propagator propagator = new BravePropagator(tracing);
+
+    PropagatingBatchReceiverTracingObservationHandler<BatchReceiverContext<?>> handler = new PropagatingBatchReceiverTracingObservationHandler<>(
+            tracer, propagator);
+
+    @AfterEach
+    void cleanup() {
+        tracing.close();
+    }
+
+    @Test
+    void should_be_applicable_for_batch_receiver_context() {
+        then(handler.supportsContext(new BatchReceiverContext<>((carrier, key) -> null))).isTrue();
+    }
+
+    @Test
+    void should_not_be_applicable_for_null_context() {
+        then(handler.supportsContext(null)).isFalse();
+    }
+
+    @Test
+    void should_create_single_span_linked_to_distinct_producer_contexts() {
+        Span producer1 = tracer.nextSpan().start();
+        Span producer2 = tracer.nextSpan().start();
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(producer1), carrier(producer1),
+                carrier(producer2), new HashMap<>());
+
+        handler.onStart(context);
+        handler.onStop(context);
+
+        List<FinishedSpan> spans = finishedSpans();
+        then(spans).hasSize(1);
+        FinishedSpan batchSpan = spans.get(0);
+        then(batchSpan.getName()).isEqualTo("batch");
+        then(batchSpan.getRemoteServiceName()).isEqualTo("broker");
+        then(batchSpan.getLinks()).hasSize(2);
+        then(batchSpan.getLinks().stream().map(link -> link.getTraceContext().spanId()))
+            .containsExactlyInAnyOrder(producer1.context().spanId(), producer2.context().spanId());
+        then(context.getRecordSpans()).isEmpty();
+    }
+
+    @Test
+    void should_create_record_spans_when_enabled() {
+        handler.setCreateRecordSpans(true);
+        Span producer = tracer.nextSpan().start();
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(producer), new HashMap<>());
+
+        handler.onStart(context);
+        then(context.getRecordSpans()).hasSize(2);
+        handler.onStop(context);
+
+        List<FinishedSpan> spans = finishedSpans();
+        then(spans).hasSize(3);
+        FinishedSpan batchSpan = spans.get(2);
+        FinishedSpan recordSpanWithProducer = spans.get(0);
+        FinishedSpan recordSpanWithoutProducer = spans.get(1);
+        then(recordSpanWithProducer.getTraceId()).isEqualTo(producer.context().traceId());
+        then(recordSpanWithProducer.getParentId()).isEqualTo(producer.context().spanId());
+        then(recordSpanWithoutProducer.getParentId()).isEqualTo(batchSpan.getSpanId());
+        then(spans).allSatisfy(span -> then(span.getName()).isEqualTo("batch"));
+    }
+
+    @SafeVarargs
+    private final BatchReceiverContext<Map<String, String>> batchContext(Map<String, String>... carriers) {
+        BatchReceiverContext<Map<String, String>> context = new BatchReceiverContext<>(Map::get);
+        context.setName("batch");
+        context.setRemoteServiceName("broker");
+        context.setCarriers(Arrays.asList(carriers));
+        return context;
+    }
+
+    private Map<String, String> carrier(Span producer) {
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(producer.context(), carrier, Map::put);
+        return carrier;
+    }
+
+    private List<FinishedSpan> finishedSpans() {
+        return testSpanHandler.spans().stream().map(BraveFinishedSpan::fromBrave).collect(Collectors.toList());
+    }
+
+}
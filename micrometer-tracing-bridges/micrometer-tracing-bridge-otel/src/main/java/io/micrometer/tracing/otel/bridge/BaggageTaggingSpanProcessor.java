@@ -20,6 +20,8 @@ import java.util.Map;
 
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
@@ -37,19 +39,41 @@ public class BaggageTaggingSpanProcessor implements SpanProcessor {
 
     private final Map<String, AttributeKey<String>> tagsToApply;
 
+    private final AttributeKey<String>[] keysToApply;
+
+    private final Mode mode;
+
     /**
-     * Creates a new instance of {@link BaggageTaggingSpanProcessor}.
+     * Creates a new instance of {@link BaggageTaggingSpanProcessor} that iterates over
+     * all baggage entries.
      * @param tagsToApply tags to apply from the baggage on the span
      */
     public BaggageTaggingSpanProcessor(List<String> tagsToApply) {
+        this(tagsToApply, Mode.ITERATE_BAGGAGE);
+    }
+
+    /**
+     * Creates a new instance of {@link BaggageTaggingSpanProcessor}.
+     * @param tagsToApply tags to apply from the baggage on the span
+     * @param mode how the baggage entries to apply are found
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    public BaggageTaggingSpanProcessor(List<String> tagsToApply, Mode mode) {
         this.tagsToApply = tagsToApply.stream()
             .map(tag -> stringKey(tag))
             .collect(toMap(AttributeKey::getKey, key -> key));
+        this.keysToApply = this.tagsToApply.values().toArray(new AttributeKey[0]);
+        this.mode = mode;
     }
 
     @Override
     public void onStart(Context context, ReadWriteSpan readWriteSpan) {
         Baggage baggage = Baggage.fromContext(context);
+        if (this.mode == Mode.LOOKUP_TAGS) {
+            lookupTags(baggage, readWriteSpan);
+            return;
+        }
 
         baggage.forEach((key, baggageEntry) -> {
             AttributeKey<String> attributeKey = tagsToApply.get(key);
@@ -59,6 +83,37 @@ public class BaggageTaggingSpanProcessor implements SpanProcessor {
         });
     }
 
+    private void lookupTags(Baggage baggage, ReadWriteSpan readWriteSpan) {
+        if (baggage.isEmpty()) {
+            return;
+        }
+        AttributeKey<String> firstKey = null;
+        String firstValue = null;
+        AttributesBuilder attributes = null;
+        for (AttributeKey<String> key : this.keysToApply) {
+            String value = baggage.getEntryValue(key.getKey());
+            if (value == null) {
+                continue;
+            }
+            if (firstKey == null) {
+                firstKey = key;
+                firstValue = value;
+            }
+            else {
+                if (attributes == null) {
+                    attributes = Attributes.builder().put(firstKey, firstValue);
+                }
+                attributes.put(key, value);
+            }
+        }
+        if (attributes != null) {
+            readWriteSpan.setAllAttributes(attributes.build());
+        }
+        else if (firstKey != null && firstValue != null) {
+            readWriteSpan.setAttribute(firstKey, firstValue);
+        }
+    }
+
     @Override
     public boolean isStartRequired() {
         return true;
@@ -74,4 +129,26 @@ public class BaggageTaggingSpanProcessor implements SpanProcessor {
         return false;
     }
 
+    /**
+     * How the baggage entries to set on a span are found.
+     *
+     * @since 1.7.0
+     */
+    public enum Mode {
+
+        /**
+         * Iterates over all baggage entries and sets those that are tags to apply. Suited
+         * when there are few baggage entries.
+         */
+        ITERATE_BAGGAGE,
+
+        /**
+         * Looks up each tag to apply in the baggage and sets all found ones at once.
+         * Nothing is done for empty baggage. Suited when there are many more baggage
+         * entries than tags to apply.
+         */
+        LOOKUP_TAGS
+
+    }
+
 }
@@ -15,40 +15,20 @@
  */
 package io.micrometer.tracing.otel.bridge;
 
-import java.util.Arrays;
-
+import io.micrometer.tracing.internal.HexCodec;
 import io.opentelemetry.api.internal.Utils;
 
 /**
- * Copied from io.opentelemetry.api.trace.BigendianEncoding.
+ * Copied from io.opentelemetry.api.trace.BigendianEncoding. Decoding is delegated to
+ * {@link HexCodec}.
  */
 final class BigendianEncoding {
 
-    static final int LONG_BYTES = Long.SIZE / Byte.SIZE;
-
-    static final int BYTE_BASE16 = 2;
-
-    static final int LONG_BASE16 = BYTE_BASE16 * LONG_BYTES;
-
-    private static final String ALPHABET = "0123456789abcdef";
-
-    private static final int ASCII_CHARACTERS = 128;
-
-    private static final byte[] DECODING = buildDecodingArray();
+    static final int LONG_BASE16 = HexCodec.LONG_BASE16;
 
     private BigendianEncoding() {
     }
 
-    private static byte[] buildDecodingArray() {
-        byte[] decoding = new byte[ASCII_CHARACTERS];
-        Arrays.fill(decoding, (byte) -1);
-        for (int i = 0; i < ALPHABET.length(); i++) {
-            char c = ALPHABET.charAt(i);
-            decoding[c] = (byte) i;
-        }
-        return decoding;
-    }
-
     /**
      * Returns the {@code long} value whose base16 representation is stored in the first
      * 16 chars of {@code chars} starting from the {@code offset}.
@@ -65,21 +45,7 @@ final class BigendianEncoding {
      */
     static long longFromBase16String(CharSequence chars, int offset) {
         Utils.checkArgument(chars.length() >= offset + LONG_BASE16, "chars too small");
-        return (decodeByte(chars.charAt(offset), chars.charAt(offset + 1)) & 0xFFL) << 56
-                | (decodeByte(chars.charAt(offset + 2), chars.charAt(offset + 3)) & 0xFFL) << 48
-                | (decodeByte(chars.charAt(offset + 4), chars.charAt(offset + 5)) & 0xFFL) << 40
-                | (decodeByte(chars.charAt(offset + 6), chars.charAt(offset + 7)) & 0xFFL) << 32
-                | (decodeByte(chars.charAt(offset + 8), chars.charAt(offset + 9)) & 0xFFL) << 24
-                | (decodeByte(chars.charAt(offset + 10), chars.charAt(offset + 11)) & 0xFFL) << 16
-                | (decodeByte(chars.charAt(offset + 12), chars.charAt(offset + 13)) & 0xFFL) << 8
-                | (decodeByte(chars.charAt(offset + 14), chars.charAt(offset + 15)) & 0xFFL);
-    }
-
-    private static byte decodeByte(char hi, char lo) {
-        Utils.checkArgument(lo < ASCII_CHARACTERS && DECODING[lo] != -1, "invalid character " + lo);
-        Utils.checkArgument(hi < ASCII_CHARACTERS && DECODING[hi] != -1, "invalid character " + hi);
-        int decoded = DECODING[hi] << 4 | DECODING[lo];
-        return (byte) decoded;
+        return HexCodec.decode(chars, offset);
     }
 
 }
@@ -21,24 +21,45 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextStorage;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
  * A context wrapper that publishes events when scope is being attached, closed or
- * restored.
+ * restored. The events are either published as objects through an
+ * {@link OtelTracer.EventPublisher} or passed to {@link ScopeEventListener scope event
+ * listeners} without creating any event object.
  *
  * @since 1.0.0
  */
 public final class EventPublishingContextWrapper implements Function<ContextStorage, ContextStorage> {
 
-    private final OtelTracer.EventPublisher publisher;
+    private final ScopeEventListener[] listeners;
 
     /**
      * Creates a new instance of {@link EventPublishingContextWrapper}.
      * @param publisher an event publisher
      */
     public EventPublishingContextWrapper(OtelTracer.EventPublisher publisher) {
-        this.publisher = publisher;
+        this(new PublishingScopeEventListener(publisher));
+    }
+
+    /**
+     * Creates a new instance of {@link EventPublishingContextWrapper}.
+     * @param listeners listeners to notify, in the given order
+     * @since 1.7.0
+     */
+    public EventPublishingContextWrapper(ScopeEventListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    /**
+     * Creates a new instance of {@link EventPublishingContextWrapper}.
+     * @param listeners listeners to notify, in the given order
+     * @since 1.7.0
+     */
+    public EventPublishingContextWrapper(List<? extends ScopeEventListener> listeners) {
+        this.listeners = listeners.toArray(new ScopeEventListener[0]);
     }
 
     @Override
@@ -51,12 +72,10 @@ public final class EventPublishingContextWrapper implements Function<ContextStor
                 if (scope == io.opentelemetry.context.Scope.noop()) {
                     return scope;
                 }
-                publisher.publishEvent(new ScopeAttachedEvent(context));
-                return () -> {
-                    scope.close();
-                    publisher.publishEvent(new ScopeClosedEvent());
-                    publisher.publishEvent(new ScopeRestoredEvent(currentContext));
-                };
+                for (ScopeEventListener listener : listeners) {
+                    listener.onAttached(context);
+                }
+                return new ListenerNotifyingScope(scope, currentContext, listeners);
             }
 
             @Override
@@ -66,6 +85,63 @@ public final class EventPublishingContextWrapper implements Function<ContextStor
         };
     }
 
+    private static final class ListenerNotifyingScope implements io.opentelemetry.context.Scope {
+
+        private final io.opentelemetry.context.Scope delegate;
+
+        private final Context previousContext;
+
+        private final ScopeEventListener[] listeners;
+
+        private ListenerNotifyingScope(io.opentelemetry.context.Scope delegate, Context previousContext,
+                ScopeEventListener[] listeners) {
+            this.delegate = delegate;
+            this.previousContext = previousContext;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void close() {
+            this.delegate.close();
+            for (ScopeEventListener listener : this.listeners) {
+                listener.onClosed();
+            }
+            for (ScopeEventListener listener : this.listeners) {
+                listener.onRestored(this.previousContext);
+            }
+        }
+
+    }
+
+    /**
+     * Publishes the notifications as event objects, as done before
+     * {@link ScopeEventListener} was introduced.
+     */
+    private static final class PublishingScopeEventListener implements ScopeEventListener {
+
+        private final OtelTracer.EventPublisher publisher;
+
+        private PublishingScopeEventListener(OtelTracer.EventPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void onAttached(Context context) {
+            this.publisher.publishEvent(new ScopeAttachedEvent(context));
+        }
+
+        @Override
+        public void onClosed() {
+            this.publisher.publishEvent(new ScopeClosedEvent());
+        }
+
+        @Override
+        public void onRestored(Context context) {
+            this.publisher.publishEvent(new ScopeRestoredEvent(context));
+        }
+
+    }
+
     /**
      * An event with context attached.
      *
@@ -94,6 +170,11 @@ public final class EventPublishingContextWrapper implements Function<ContextStor
             return Baggage.fromContextOrNull(context);
         }
 
+        Context contextOrRoot() {
+            Context context = this.context;
+            return context != null ? context : Context.root();
+        }
+
         @Override
         public String toString() {
             return "ScopeAttached{context: [span: " + getSpan() + "] [baggage: " + getBaggage() + "]}";
@@ -135,6 +216,11 @@ public final class EventPublishingContextWrapper implements Function<ContextStor
             return Baggage.fromContextOrNull(context);
         }
 
+        Context contextOrRoot() {
+            Context context = this.context;
+            return context != null ? context : Context.root();
+        }
+
         @Override
         public String toString() {
             return "ScopeRestored{context: [span: " + getSpan() + "] [baggage: " + getBaggage() + "]}";
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import org.jspecify.annotations.Nullable;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the site local IP address of this host, reported as the local IP of
+ * {@link OtelFinishedSpan finished spans}. Enumerating the network interfaces is
+ * expensive, so the address is resolved once and shared by all spans. It can optionally
+ * be resolved again after a refresh interval, in which case it is refreshed on a
+ * background daemon thread while all callers keep getting the previously resolved
+ * address. Only the very first resolution happens on the calling thread.
+ *
+ * @since 1.7.0
+ */
+public final class LocalIpResolver {
+
+    private static volatile LocalIpResolver instance = new LocalIpResolver(Duration.ZERO);
+
+    private final long refreshIntervalNanos;
+
+    private final Supplier<@Nullable String> lookup;
+
+    private final LongSupplier nanoClock;
+
+    private final Executor refreshExecutor;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile @Nullable Resolved resolved;
+
+    /**
+     * Creates a new instance of {@link LocalIpResolver}.
+     * @param refreshInterval how long a resolved address is used before resolving it
+     * again; {@link Duration#ZERO} or a negative duration to never resolve it again
+     */
+    public LocalIpResolver(Duration refreshInterval) {
+        this(refreshInterval, LocalIpResolver::siteLocalIp, System::nanoTime, LocalIpResolver::refreshInBackground);
+    }
+
+    LocalIpResolver(Duration refreshInterval, Supplier<@Nullable String> lookup, LongSupplier nanoClock,
+            Executor refreshExecutor) {
+        this.refreshIntervalNanos = refreshInterval.isNegative() ? 0L : refreshInterval.toNanos();
+        this.lookup = lookup;
+        this.nanoClock = nanoClock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the resolver used by finished spans.
+     * @return shared resolver
+     */
+    public static LocalIpResolver getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the resolver used by finished spans, e.g. with one that refreshes the
+     * address periodically.
+     * @param resolver resolver to use
+     */
+    public static void setInstance(LocalIpResolver resolver) {
+        instance = Objects.requireNonNull(resolver, "resolver must not be null");
+    }
+
+    /**
+     * Returns the site local IP address of this host.
+     * @return local IP address or {@code null} when none could be found
+     */
+    public @Nullable String localIp() {
+        Resolved resolved = this.resolved;
+        if (resolved == null) {
+            return resolveFirst();
+        }
+        if (this.refreshIntervalNanos > 0
+                && this.nanoClock.getAsLong() - resolved.resolvedAtNanos >= this.refreshIntervalNanos
+                && this.refreshing.compareAndSet(false, true)) {
+            refresh();
+        }
+        return resolved.ip;
+    }
+
+    private void refresh() {
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    resolve();
+                }
+                finally {
+                    this.refreshing.set(false);
+                }
+            });
+        }
+        catch (RuntimeException ex) {
+            // e.g. no thread could be started, try again on a later call
+            this.refreshing.set(false);
+        }
+    }
+
+    private synchronized @Nullable String resolveFirst() {
+        Resolved resolved = this.resolved;
+        if (resolved == null) {
+            resolved = resolve();
+        }
+        return resolved.ip;
+    }
+
+    private Resolved resolve() {
+        Resolved resolved = new Resolved(this.lookup.get(), this.nanoClock.getAsLong());
+        this.resolved = resolved;
+        return resolved;
+    }
+
+    private static void refreshInBackground(Runnable refresh) {
+        Thread thread = new Thread(refresh, "micrometer-tracing-local-ip-resolver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // taken from Brave
+    private static @Nullable String siteLocalIp() {
+        try {
+            Enumeration<NetworkInterface> nics = NetworkInterface.getNetworkInterfaces();
+            while (nics.hasMoreElements()) {
+                NetworkInterface nic = nics.nextElement();
+                Enumeration<InetAddress> addresses = nic.getInetAddresses();
+                while (addresses.hasMoreElements()) {
+                    InetAddress address = addresses.nextElement();
+                    if (address.isSiteLocalAddress()) {
+                        return address.getHostAddress();
+                    }
+                }
+            }
+        }
+        catch (Exception e) {
+        }
+        return null;
+    }
+
+    private static final class Resolved {
+
+        private final @Nullable String ip;
+
+        private final long resolvedAtNanos;
+
+        private Resolved(@Nullable String ip, long resolvedAtNanos) {
+            this.ip = ip;
+            this.resolvedAtNanos = resolvedAtNanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import io.micrometer.tracing.CurrentTraceContext;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenTelemetry implementation of a scope of multiple baggage entries. Merges all the
+ * entries into a single {@link Baggage} and makes it current with one
+ * {@link Context#makeCurrent()} call.
+ *
+ * @since 1.7.0
+ */
+class OtelBaggageEntriesInScope implements CurrentTraceContext.Scope {
+
+    private final OtelTraceContext traceContext;
+
+    private final Context contextWithoutBaggage;
+
+    private @Nullable Scope scope;
+
+    OtelBaggageEntriesInScope(OtelBaggageManager otelBaggageManager, OtelTraceContext traceContext,
+            List<String> tagFields, Map<String, String> baggage) {
+        this.traceContext = traceContext;
+        this.contextWithoutBaggage = traceContext.context();
+        BaggageBuilder builder = Baggage.fromContext(this.contextWithoutBaggage).toBuilder();
+        Baggage.current()
+            .forEach((key, baggageEntry) -> builder.put(key, baggageEntry.getValue(), baggageEntry.getMetadata()));
+        Span currentSpan = Span.current();
+        for (Map.Entry<String, String> entry : baggage.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue(), otelBaggageManager.entryMetadata(entry.getKey()));
+            if (isTagField(tagFields, entry.getKey())) {
+                currentSpan.setAttribute(entry.getKey(), entry.getValue());
+            }
+        }
+        Context withBaggage = Context.current().with(builder.build());
+        traceContext.updateContext(withBaggage);
+        this.scope = withBaggage.makeCurrent();
+    }
+
+    private static boolean isTagField(List<String> tagFields, String name) {
+        for (String tagField : tagFields) {
+            if (tagField.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        Scope scope = this.scope;
+        if (scope != null) {
+            this.scope = null;
+            scope.close();
+            this.traceContext.updateContext(this.contextWithoutBaggage);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OtelBaggageEntriesInScope{" + "traceContext=" + this.traceContext + '}';
+    }
+
+}
@@ -88,7 +88,7 @@ class OtelBaggageInScope implements io.micrometer.tracing.Baggage, BaggageInScop
         if (entry.get() != null) {
             return entry.get().value;
         }
-        return this.otelBaggageManager.currentBaggage().getEntryValue(entry().getKey());
+        return this.otelBaggageManager.currentEntryValue(entry().getKey());
     }
 
     @Override
@@ -16,6 +16,7 @@
 package io.micrometer.tracing.otel.bridge;
 
 import org.jspecify.annotations.Nullable;
+import io.micrometer.tracing.BaggageFieldIndex;
 import io.micrometer.tracing.BaggageInScope;
 import io.micrometer.tracing.BaggageManager;
 import io.micrometer.tracing.CurrentTraceContext;
@@ -29,10 +30,7 @@ import io.opentelemetry.context.Context;
 import java.util.*;
 import java.util.function.BiConsumer;
 
-import static java.util.Collections.unmodifiableCollection;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * OpenTelemetry implementation of a {@link BaggageManager}.
@@ -55,6 +53,8 @@ public class OtelBaggageManager implements BaggageManager {
 
     private final List<String> tagFields;
 
+    private final BaggageFieldIndex baggageFieldIndex;
+
     /**
      * Creates a new instance of {@link OtelBaggageManager}.
      * @param currentTraceContext current trace context
@@ -67,6 +67,7 @@ public class OtelBaggageManager implements BaggageManager {
         this.remoteFields = remoteFields;
         this.tagFields = tagFields;
         this.baggageFields = baggageFields(tagFields, remoteFields);
+        this.baggageFieldIndex = BaggageFieldIndex.of(remoteFields);
     }
 
     private static List<String> baggageFields(List<String> tagFields, List<String> remoteFields) {
@@ -77,13 +78,7 @@ public class OtelBaggageManager implements BaggageManager {
 
     @Override
     public Map<String, String> getAllBaggage() {
-        return toMap(currentBaggage());
-    }
-
-    private Map<String, String> toMap(CompositeBaggage compositeBaggage) {
-        Map<String, String> baggage = new HashMap<>();
-        compositeBaggage.getEntries().forEach(entry -> baggage.put(entry.getKey(), entry.getValue()));
-        return baggage;
+        return values((OtelTraceContext) currentTraceContext.context());
     }
 
     @Override
@@ -91,26 +86,61 @@ public class OtelBaggageManager implements BaggageManager {
         if (traceContext == null) {
             return getAllBaggage();
         }
-        return toMap(baggage((OtelTraceContext) traceContext));
+        return values((OtelTraceContext) traceContext);
     }
 
-    CompositeBaggage currentBaggage() {
-        return baggage((OtelTraceContext) currentTraceContext.context());
+    private Map<String, String> values(@Nullable OtelTraceContext traceContext) {
+        Baggage current = Baggage.fromContext(Context.current());
+        Baggage overrides = overrides(current, traceContext);
+        if (overrides == null) {
+            return current.isEmpty() ? Collections.emptyMap() : new BaggageValues(current);
+        }
+        if (current.isEmpty()) {
+            return new BaggageValues(overrides);
+        }
+        return new BaggageValues(new CompositeBaggage(current, overrides));
+    }
+
+    /**
+     * Returns the baggage of the trace context, which overrides the current one, unless
+     * it's empty or the current one.
+     */
+    private static @Nullable Baggage overrides(Baggage current, @Nullable OtelTraceContext traceContext) {
+        if (traceContext == null) {
+            return null;
+        }
+        Baggage traceContextBaggage = Baggage.fromContext(traceContext.context());
+        if (traceContextBaggage == current || traceContextBaggage.isEmpty()) {
+            return null;
+        }
+        return traceContextBaggage;
     }
 
-    private CompositeBaggage baggage(@Nullable OtelTraceContext traceContext) {
-        Context context = Context.current();
-        Deque<Context> stack = new ArrayDeque<>();
-        stack.addFirst(context);
-        if (traceContext != null && traceContext.context() != null) {
-            stack.addFirst(traceContext.context());
+    /**
+     * Returns the value of the current baggage entry with exactly the given name.
+     * @param name name of the entry
+     * @return value or {@code null} if there's no entry with that name
+     */
+    @Nullable String currentEntryValue(String name) {
+        Baggage current = Baggage.fromContext(Context.current());
+        Baggage overrides = overrides(current, (OtelTraceContext) currentTraceContext.context());
+        if (overrides != null) {
+            String value = overrides.getEntryValue(name);
+            if (value != null) {
+                return value;
+            }
         }
-        return new CompositeBaggage(stack);
+        return current.getEntryValue(name);
     }
 
     @Override
     public io.micrometer.tracing.Baggage getBaggage(String name) {
-        Entry entry = getBaggage(name, currentBaggage());
+        Baggage current = Baggage.fromContext(Context.current());
+        Baggage overrides = overrides(current, (OtelTraceContext) currentTraceContext.context());
+        Entry entry = overrides != null ? EntryFinder.find(overrides, name) : null;
+        if (entry == null) {
+            entry = EntryFinder.find(current, name);
+        }
         return createNewEntryIfMissing(name, entry);
     }
 
@@ -122,24 +152,18 @@ public class OtelBaggageManager implements BaggageManager {
     }
 
     private @Nullable Entry getBaggage(String name, io.opentelemetry.api.baggage.Baggage baggage) {
-        return entryForName(name, baggage);
+        return EntryFinder.find(baggage, name);
     }
 
     @Override
     public io.micrometer.tracing.@Nullable Baggage getBaggage(TraceContext traceContext, String name) {
         OtelTraceContext context = (OtelTraceContext) traceContext;
-        LinkedList<Context> stack = new LinkedList<>();
         Context current = Context.current();
         Context traceContextContext = context.context();
-        stack.addFirst(current);
-        if (!Objects.equals(current, traceContextContext)) {
-            stack.addFirst(traceContextContext);
-        }
-        Context ctx = removeFirst(stack);
-        Entry entry = null;
-        while (ctx != null && entry == null) {
-            entry = getBaggage(name, Baggage.fromContext(ctx));
-            ctx = removeFirst(stack);
+        // the trace context's baggage takes precedence over the current one
+        Entry entry = getBaggage(name, Baggage.fromContext(traceContextContext));
+        if (entry == null && !Objects.equals(current, traceContextContext)) {
+            entry = getBaggage(name, Baggage.fromContext(current));
         }
         if (entry != null) {
             return otelBaggage(context, entry);
@@ -153,18 +177,6 @@ public class OtelBaggageManager implements BaggageManager {
         return getBaggage(name, Baggage.fromContext(ctx));
     }
 
-    @Nullable Context removeFirst(Deque<Context> stack) {
-        return stack.isEmpty() ? null : stack.removeFirst();
-    }
-
-    private @Nullable Entry entryForName(String name, io.opentelemetry.api.baggage.Baggage baggage) {
-        return Entry.fromBaggage(baggage)
-            .stream()
-            .filter(e -> e.getKey().equalsIgnoreCase(name))
-            .findFirst()
-            .orElse(null);
-    }
-
     private io.micrometer.tracing.Baggage otelBaggage(Entry entry) {
         return new OtelBaggageInScope(this, this.currentTraceContext, this.tagFields, entry);
     }
@@ -196,15 +208,24 @@ public class OtelBaggageManager implements BaggageManager {
         return baggageWithValue(name, value).makeCurrent(traceContext, value);
     }
 
+    @Override
+    public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext, Map<String, String> baggage) {
+        if (baggage.isEmpty()) {
+            return CurrentTraceContext.Scope.NOOP;
+        }
+        return new OtelBaggageEntriesInScope(this, (OtelTraceContext) traceContext, this.tagFields, baggage);
+    }
+
     private io.micrometer.tracing.Baggage baggageWithValue(String name, @Nullable String value) {
-        boolean remoteField = this.remoteFields.stream()
-            .map(String::toLowerCase)
-            .anyMatch(s -> s.equals(name.toLowerCase()));
-        BaggageEntryMetadata entryMetadata = BaggageEntryMetadata.create(propagationString(remoteField));
-        Entry entry = new Entry(name, value, entryMetadata);
+        Entry entry = new Entry(name, value, entryMetadata(name));
         return new OtelBaggageInScope(this, this.currentTraceContext, this.tagFields, entry);
     }
 
+    BaggageEntryMetadata entryMetadata(String name) {
+        boolean remoteField = getBaggageFieldIndex().contains(name);
+        return BaggageEntryMetadata.create(propagationString(remoteField));
+    }
+
     private String propagationString(boolean remoteField) {
         String propagation = "";
         if (remoteField) {
@@ -218,59 +239,125 @@ public class OtelBaggageManager implements BaggageManager {
         return this.remoteFields;
     }
 
+    @Override
+    public BaggageFieldIndex getBaggageFieldIndex() {
+        return this.baggageFieldIndex;
+    }
+
 }
 
-class CompositeBaggage implements io.opentelemetry.api.baggage.Baggage {
+/**
+ * Finds the baggage entry with the given name in a single pass over the baggage, without
+ * copying its entries. An exact match wins over the first entry whose name matches
+ * ignoring case.
+ */
+class EntryFinder implements BiConsumer<String, BaggageEntry> {
 
-    private final Collection<Entry> entries;
+    private final String name;
 
-    private final Map<String, BaggageEntry> baggageEntries;
+    private @Nullable String key;
 
-    CompositeBaggage(Deque<Context> stack) {
-        this.entries = unmodifiableCollection(createEntries(stack));
-        this.baggageEntries = unmodifiableMap(this.entries.stream().collect(toMap(Entry::getKey, identity())));
+    private @Nullable BaggageEntry baggageEntry;
+
+    private boolean exact;
+
+    private EntryFinder(String name) {
+        this.name = name;
     }
 
-    private Collection<Entry> createEntries(Deque<Context> stack) {
-        // parent baggage foo=bar
-        // child baggage foo=baz - we want the last one to override the previous one
-        Map<String, Entry> map = new HashMap<>();
-        Iterator<Context> iterator = stack.descendingIterator();
-        while (iterator.hasNext()) {
-            Context next = iterator.next();
-            Baggage baggage = Baggage.fromContext(next);
-            baggage.forEach((key, value) -> map.put(key, new Entry(key, value.getValue(), value.getMetadata())));
+    /**
+     * Returns the entry whose name matches exactly or, if there's none, the first one
+     * whose name matches ignoring case.
+     * @param baggage baggage to look the entry up in
+     * @param name name of the entry
+     * @return entry or {@code null} if there's no entry with that name
+     */
+    static @Nullable Entry find(Baggage baggage, String name) {
+        if (baggage.isEmpty()) {
+            return null;
+        }
+        EntryFinder finder = new EntryFinder(name);
+        baggage.forEach(finder);
+        String key = finder.key;
+        BaggageEntry baggageEntry = finder.baggageEntry;
+        if (key == null || baggageEntry == null) {
+            return null;
         }
+        return new Entry(key, baggageEntry.getValue(), baggageEntry.getMetadata());
+    }
 
-        return map.values();
+    @Override
+    public void accept(String key, BaggageEntry baggageEntry) {
+        if (this.exact) {
+            return;
+        }
+        if (key.equals(this.name)) {
+            this.exact = true;
+        }
+        else if (this.key != null || !key.equalsIgnoreCase(this.name)) {
+            return;
+        }
+        this.key = key;
+        this.baggageEntry = baggageEntry;
     }
 
-    Collection<Entry> getEntries() {
-        return this.entries;
+}
+
+/**
+ * Baggage of a trace context layered over the current baggage, only used when both carry
+ * entries. The layers are merged once per instance, which lives as long as the view
+ * returned by {@link OtelBaggageManager#getAllBaggage()}, lookups by name check the
+ * layers in order.
+ */
+class CompositeBaggage implements io.opentelemetry.api.baggage.Baggage {
+
+    private final Baggage baggage;
+
+    private final Baggage overrides;
+
+    private @Nullable Map<String, BaggageEntry> merged;
+
+    CompositeBaggage(Baggage baggage, Baggage overrides) {
+        this.baggage = baggage;
+        this.overrides = overrides;
+    }
+
+    private Map<String, BaggageEntry> merged() {
+        Map<String, BaggageEntry> merged = this.merged;
+        if (merged == null) {
+            Map<String, BaggageEntry> entries = new HashMap<>();
+            this.baggage.forEach(entries::put);
+            this.overrides.forEach(entries::put);
+            merged = unmodifiableMap(entries);
+            this.merged = merged;
+        }
+        return merged;
     }
 
     @Override
     public int size() {
-        return this.entries.size();
+        return merged().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.baggage.isEmpty() && this.overrides.isEmpty();
     }
 
     @Override
     public void forEach(BiConsumer<? super String, ? super BaggageEntry> consumer) {
-        this.entries.forEach(entry -> consumer.accept(entry.getKey(), entry));
+        merged().forEach(consumer);
     }
 
     @Override
     public Map<String, BaggageEntry> asMap() {
-        return this.baggageEntries;
+        return merged();
     }
 
     @Override
     public @Nullable String getEntryValue(String entryKey) {
-        return this.entries.stream()
-            .filter(entry -> entryKey.equals(entry.getKey()))
-            .map(Entry::getValue)
-            .findFirst()
-            .orElse(null);
+        String value = this.overrides.getEntryValue(entryKey);
+        return value != null ? value : this.baggage.getEntryValue(entryKey);
     }
 
     @Override
@@ -280,6 +367,54 @@ class CompositeBaggage implements io.opentelemetry.api.baggage.Baggage {
 
 }
 
+/**
+ * Read-only view of the values of a {@link Baggage}. Single values are read straight
+ * from the baggage, the entries are only copied when iterated.
+ */
+class BaggageValues extends AbstractMap<String, String> {
+
+    private final Baggage baggage;
+
+    private @Nullable Set<Map.Entry<String, String>> entrySet;
+
+    BaggageValues(Baggage baggage) {
+        this.baggage = baggage;
+    }
+
+    @Override
+    public @Nullable String get(Object key) {
+        return key instanceof String ? this.baggage.getEntryValue((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.baggage.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.baggage.isEmpty();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            Map<String, String> values = new HashMap<>();
+            this.baggage.forEach((key, entry) -> values.put(key, entry.getValue()));
+            entrySet = unmodifiableMap(values).entrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+}
+
 class Entry implements BaggageEntry {
 
     final String key;
@@ -294,12 +429,6 @@ class Entry implements BaggageEntry {
         this.entryMetadata = entryMetadata;
     }
 
-    static List<Entry> fromBaggage(Baggage baggage) {
-        List<Entry> list = new ArrayList<>(baggage.size());
-        baggage.forEach((key, value) -> list.add(new Entry(key, value.getValue(), value.getMetadata())));
-        return list;
-    }
-
     public String getKey() {
         return this.key;
     }
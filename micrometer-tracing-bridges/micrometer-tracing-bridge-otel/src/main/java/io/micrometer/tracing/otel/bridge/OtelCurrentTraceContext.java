@@ -42,20 +42,31 @@ public class OtelCurrentTraceContext implements CurrentTraceContext {
 
     private static final ContextKey<OtelTraceContext> OTEL_CONTEXT_KEY = ContextKey.named(TRACING_OTEL_CONTEXT_KEY);
 
+    // per thread, the wrapper created for the last context that had a span made current
+    // directly through OTel and so no wrapper stored under OTEL_CONTEXT_KEY
+    private final ThreadLocal<@Nullable ContextTraceContext> lastWrapped = new ThreadLocal<>();
+
     @Override
     public @Nullable TraceContext context() {
-        OtelTraceContext otelTraceContext = Context.current().get(OTEL_CONTEXT_KEY);
+        Context current = Context.current();
+        OtelTraceContext otelTraceContext = current.get(OTEL_CONTEXT_KEY);
         if (otelTraceContext != null) {
             return otelTraceContext;
         }
-        Span currentSpan = Span.current();
+        Span currentSpan = Span.fromContext(current);
         if (Span.getInvalid().equals(currentSpan)) {
             return null;
         }
         if (currentSpan instanceof SpanFromSpanContext) {
             return ((SpanFromSpanContext) currentSpan).parentTraceContext;
         }
-        return new OtelTraceContext(currentSpan);
+        ContextTraceContext lastWrapped = this.lastWrapped.get();
+        if (lastWrapped != null && lastWrapped.context == current) {
+            return lastWrapped.traceContext;
+        }
+        otelTraceContext = new OtelTraceContext(current, currentSpan.getSpanContext(), currentSpan);
+        this.lastWrapped.set(new ContextTraceContext(current, otelTraceContext));
+        return otelTraceContext;
     }
 
     /**
@@ -74,28 +85,36 @@ public class OtelCurrentTraceContext implements CurrentTraceContext {
         }
         Context current = Context.current();
         Context oldContext = otelTraceContext.context();
+        if (current == oldContext && current.get(OTEL_CONTEXT_KEY) == otelTraceContext) {
+            // this trace context is already in scope
+            return new WrappedScope(io.opentelemetry.context.Scope.noop());
+        }
         // Check if there's a span in the static OTel context
         Span spanFromCurrentCtx = Span.fromContext(current);
         // Check if there's a span in the ctx attached to TraceContext
-        Span spanFromCtxOnNewSpan = Span.fromContext(otelTraceContext.context());
+        Span spanFromCtxOnNewSpan = Span.fromContext(oldContext);
         SpanContext spanContext = otelTraceContext.delegate;
         boolean sameSpan = spanFromCurrentCtx.getSpanContext().equals(spanFromCtxOnNewSpan.getSpanContext())
                 && spanFromCurrentCtx.getSpanContext().equals(spanContext);
-        SpanFromSpanContext fromContext = new SpanFromSpanContext(otelTraceContext.span, spanContext, otelTraceContext);
         Baggage currentBaggage = Baggage.fromContext(current);
         Baggage oldBaggage = Baggage.fromContext(oldContext);
         boolean sameBaggage = sameBaggage(currentBaggage, oldBaggage);
         if (sameSpan && sameBaggage) {
             return new WrappedScope(io.opentelemetry.context.Scope.noop());
         }
-        Baggage updatedBaggage = mergeBaggage(currentBaggage, oldBaggage);
-        Context newContext = oldContext.with(fromContext).with(updatedBaggage).with(OTEL_CONTEXT_KEY, otelTraceContext);
+        Context newContext = otelTraceContext.scopeContext(oldContext, OTEL_CONTEXT_KEY);
+        if (!sameBaggage) {
+            newContext = newContext.with(mergeBaggage(currentBaggage, oldBaggage));
+        }
         io.opentelemetry.context.Scope newScope = newContext.makeCurrent();
         otelTraceContext.updateContext(newContext);
         return new WrappedScope(newScope, otelTraceContext, oldContext);
     }
 
     private static Baggage mergeBaggage(Baggage currentBaggage, Baggage oldBaggage) {
+        if (currentBaggage.isEmpty()) {
+            return oldBaggage;
+        }
         BaggageBuilder baggageBuilder = currentBaggage.toBuilder();
         oldBaggage.forEach(
                 (key, baggageEntry) -> baggageBuilder.put(key, baggageEntry.getValue(), baggageEntry.getMetadata()));
@@ -103,7 +122,7 @@ public class OtelCurrentTraceContext implements CurrentTraceContext {
     }
 
     private boolean sameBaggage(Baggage currentBaggage, Baggage oldBaggage) {
-        return currentBaggage.equals(oldBaggage);
+        return currentBaggage == oldBaggage || currentBaggage.equals(oldBaggage);
     }
 
     @Override
@@ -136,6 +155,19 @@ public class OtelCurrentTraceContext implements CurrentTraceContext {
         return Context.current().wrap(delegate);
     }
 
+    private static final class ContextTraceContext {
+
+        private final Context context;
+
+        private final OtelTraceContext traceContext;
+
+        private ContextTraceContext(Context context, OtelTraceContext traceContext) {
+            this.context = context;
+            this.traceContext = traceContext;
+        }
+
+    }
+
     static class WrappedScope implements Scope {
 
         final io.opentelemetry.context.Scope scope;
@@ -30,8 +30,6 @@ import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -50,12 +48,27 @@ import static io.opentelemetry.semconv.ServiceAttributes.SERVICE_NAME;
  */
 public class OtelFinishedSpan implements FinishedSpan {
 
-    private final MutableSpanData spanData;
+    private final SpanData delegate;
+
+    // copy of the delegate, created when the span gets modified for the first time
+    private @Nullable MutableSpanData mutableSpanData;
+
+    // set once the copy was returned by toOtel; it must not change afterwards, so the
+    // next modification copies it again
+    private boolean handedOut;
+
+    // attributes the tag views below were built from; a modification rebuilds the
+    // attributes and so invalidates the views
+    private @Nullable Attributes tagsSource;
+
+    private @Nullable Map<String, String> tags;
+
+    private @Nullable Map<String, Object> typedTags;
 
     private volatile @Nullable String linkLocalIp;
 
     OtelFinishedSpan(SpanData spanData) {
-        this.spanData = new MutableSpanData(spanData);
+        this.delegate = spanData;
     }
 
     /**
@@ -68,39 +81,68 @@ public class OtelFinishedSpan implements FinishedSpan {
     }
 
     /**
-     * Converts from Tracing to OTel.
+     * Converts from Tracing to OTel. The returned data is not affected by later
+     * modifications of the span.
      * @param span Tracing version
      * @return OTel version
      */
     public static SpanData toOtel(FinishedSpan span) {
-        return ((OtelFinishedSpan) span).spanData;
+        OtelFinishedSpan otelFinishedSpan = (OtelFinishedSpan) span;
+        otelFinishedSpan.handedOut = true;
+        return otelFinishedSpan.spanData();
+    }
+
+    private SpanData spanData() {
+        MutableSpanData mutableSpanData = this.mutableSpanData;
+        return mutableSpanData != null ? mutableSpanData : this.delegate;
+    }
+
+    private MutableSpanData mutableSpanData() {
+        MutableSpanData mutableSpanData = this.mutableSpanData;
+        if (mutableSpanData == null || this.handedOut) {
+            mutableSpanData = new MutableSpanData(spanData());
+            this.mutableSpanData = mutableSpanData;
+            this.handedOut = false;
+        }
+        return mutableSpanData;
+    }
+
+    private Attributes tagsSource() {
+        Attributes attributes = spanData().getAttributes();
+        if (attributes != this.tagsSource) {
+            this.tagsSource = attributes;
+            this.tags = null;
+            this.typedTags = null;
+        }
+        return attributes;
     }
 
     @Override
     public FinishedSpan setName(String name) {
-        this.spanData.name = name;
+        mutableSpanData().name = name;
         return this;
     }
 
     @Override
     public String getName() {
-        return this.spanData.getName();
+        return spanData().getName();
     }
 
     @Override
     public Instant getStartTimestamp() {
-        return Instant.ofEpochSecond(0L, this.spanData.getStartEpochNanos());
+        return Instant.ofEpochSecond(0L, spanData().getStartEpochNanos());
     }
 
     @Override
     public Instant getEndTimestamp() {
-        return Instant.ofEpochSecond(0L, this.spanData.getEndEpochNanos());
+        return Instant.ofEpochSecond(0L, spanData().getEndEpochNanos());
     }
 
     @Override
     public FinishedSpan setTags(Map<String, String> tags) {
-        this.spanData.tags.clear();
-        this.spanData.tags.putAll(tags.entrySet()
+        Map<AttributeKey, Object> spanTags = mutableSpanData().tags();
+        spanTags.clear();
+        spanTags.putAll(tags.entrySet()
             .stream()
             .collect(Collectors.toMap(e -> AttributeKey.stringKey(e.getKey()), Map.Entry::getValue)));
         return this;
@@ -108,15 +150,22 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     @Override
     public Map<String, String> getTags() {
-        return this.spanData.tags.entrySet()
-            .stream()
-            .collect(Collectors.toMap(e -> e.getKey().getKey(), entry -> String.valueOf(entry.getValue())));
+        Attributes attributes = tagsSource();
+        Map<String, String> tags = this.tags;
+        if (tags == null) {
+            Map<String, String> map = new HashMap<>(capacity(attributes.size()));
+            attributes.forEach((key, value) -> map.put(key.getKey(), String.valueOf(value)));
+            tags = Collections.unmodifiableMap(map);
+            this.tags = tags;
+        }
+        return tags;
     }
 
     @Override
     public FinishedSpan setTypedTags(Map<String, Object> tags) {
-        this.spanData.tags.clear();
-        this.spanData.tags.putAll(tags.entrySet().stream().collect(Collectors.toMap(e -> {
+        Map<AttributeKey, Object> spanTags = mutableSpanData().tags();
+        spanTags.clear();
+        spanTags.putAll(tags.entrySet().stream().collect(Collectors.toMap(e -> {
             Object value = e.getValue();
             return getAttributeKey(e.getKey(), value);
         }, Map.Entry::getValue)));
@@ -156,15 +205,26 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     @Override
     public Map<String, Object> getTypedTags() {
-        return this.spanData.tags.entrySet()
-            .stream()
-            .collect(Collectors.toMap(e -> e.getKey().getKey(), Map.Entry::getValue));
+        Attributes attributes = tagsSource();
+        Map<String, Object> typedTags = this.typedTags;
+        if (typedTags == null) {
+            Map<String, Object> map = new HashMap<>(capacity(attributes.size()));
+            attributes.forEach((key, value) -> map.put(key.getKey(), value));
+            typedTags = Collections.unmodifiableMap(map);
+            this.typedTags = typedTags;
+        }
+        return typedTags;
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
     }
 
     @Override
     public FinishedSpan setEvents(Collection<Map.Entry<Long, String>> events) {
-        this.spanData.events.clear();
-        this.spanData.events.addAll(events.stream()
+        List<EventData> spanEvents = mutableSpanData().events();
+        spanEvents.clear();
+        spanEvents.addAll(events.stream()
             .map(e -> EventData.create(e.getKey(), e.getValue(), Attributes.empty()))
             .collect(Collectors.toList()));
         return this;
@@ -172,7 +232,7 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     @Override
     public Collection<Map.Entry<Long, String>> getEvents() {
-        return this.spanData.getEvents()
+        return spanData().getEvents()
             .stream()
             .map(e -> new AbstractMap.SimpleEntry<>(e.getEpochNanos(), e.getName()))
             .collect(Collectors.toList());
@@ -180,33 +240,33 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     @Override
     public String getSpanId() {
-        return this.spanData.getSpanId();
+        return spanData().getSpanId();
     }
 
     @Override
     public @Nullable String getParentId() {
-        return this.spanData.getParentSpanId();
+        return spanData().getParentSpanId();
+    }
+
+    @Override
+    public long getSpanIdAsLong() {
+        return BigendianEncoding.longFromBase16String(spanData().getSpanId());
+    }
+
+    @Override
+    public long getParentIdAsLong() {
+        return BigendianEncoding.longFromBase16String(spanData().getParentSpanId());
     }
 
     @Override
     public @Nullable String getRemoteIp() {
-        return getTags().get(NETWORK_PEER_ADDRESS.getKey());
+        return spanData().getAttributes().get(NETWORK_PEER_ADDRESS);
     }
 
     @Override
     public @Nullable String getLocalIp() {
-        // taken from Brave
-        // uses synchronized variant of double-checked locking as getting the endpoint can
-        // be expensive
-        if (this.linkLocalIp != null) {
-            return this.linkLocalIp;
-        }
-        synchronized (this) {
-            if (this.linkLocalIp == null) {
-                this.linkLocalIp = produceLinkLocalIp();
-            }
-        }
-        return this.linkLocalIp;
+        String localIp = this.linkLocalIp;
+        return localIp != null ? localIp : LocalIpResolver.getInstance().localIp();
     }
 
     @Override
@@ -215,48 +275,46 @@ public class OtelFinishedSpan implements FinishedSpan {
         return this;
     }
 
-    private @Nullable String produceLinkLocalIp() {
-        try {
-            Enumeration<NetworkInterface> nics = NetworkInterface.getNetworkInterfaces();
-            while (nics.hasMoreElements()) {
-                NetworkInterface nic = nics.nextElement();
-                Enumeration<InetAddress> addresses = nic.getInetAddresses();
-                while (addresses.hasMoreElements()) {
-                    InetAddress address = addresses.nextElement();
-                    if (address.isSiteLocalAddress()) {
-                        return address.getHostAddress();
-                    }
-                }
-            }
-        }
-        catch (Exception e) {
-        }
-        return null;
-    }
-
     @Override
+    @SuppressWarnings("unchecked")
     public int getRemotePort() {
-        String port = getTags().get(NETWORK_PEER_PORT.getKey());
+        // the port is stored as a String by setRemotePort but as a long by the OTel
+        // instrumentation
+        Attributes attributes = spanData().getAttributes();
+        Object port = attributes.get((AttributeKey) NETWORK_PEER_PORT);
+        if (port == null) {
+            port = attributes.get(AttributeKey.stringKey(NETWORK_PEER_PORT.getKey()));
+        }
         if (port == null) {
             return 0;
         }
-        return Integer.parseInt(port);
+        return Integer.parseInt(String.valueOf(port));
     }
 
     @Override
     public FinishedSpan setRemotePort(int port) {
-        this.spanData.tags.put(NETWORK_PEER_PORT, String.valueOf(port));
+        mutableSpanData().tags().put(NETWORK_PEER_PORT, String.valueOf(port));
         return this;
     }
 
     @Override
     public String getTraceId() {
-        return this.spanData.getTraceId();
+        return spanData().getTraceId();
+    }
+
+    @Override
+    public long getTraceIdHigh() {
+        return BigendianEncoding.longFromBase16String(spanData().getTraceId(), 0);
+    }
+
+    @Override
+    public long getTraceIdLow() {
+        return BigendianEncoding.longFromBase16String(spanData().getTraceId(), BigendianEncoding.LONG_BASE16);
     }
 
     @Override
     public @Nullable Throwable getError() {
-        Attributes attributes = this.spanData.getEvents()
+        Attributes attributes = spanData().getEvents()
             .stream()
             .filter(e -> e.getName().equals("exception"))
             .findFirst()
@@ -270,44 +328,44 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     @Override
     public FinishedSpan setError(Throwable error) {
-        this.spanData.getEvents()
+        mutableSpanData().events()
             .add(EventData.create(System.nanoTime(), "exception", Attributes.of(EXCEPTION_MESSAGE, error.toString())));
         return this;
     }
 
     @Override
     public Span.@Nullable Kind getKind() {
-        if (this.spanData.getKind() == SpanKind.INTERNAL) {
+        if (spanData().getKind() == SpanKind.INTERNAL) {
             return null;
         }
-        return Span.Kind.valueOf(this.spanData.getKind().name());
+        return Span.Kind.valueOf(spanData().getKind().name());
     }
 
     @Override
     public @Nullable String getRemoteServiceName() {
-        return this.spanData.getAttributes().get(PEER_SERVICE);
+        return spanData().getAttributes().get(PEER_SERVICE);
     }
 
     @Override
     public FinishedSpan setRemoteServiceName(String remoteServiceName) {
-        this.spanData.tags.put(PEER_SERVICE, remoteServiceName);
+        mutableSpanData().tags().put(PEER_SERVICE, remoteServiceName);
         return this;
     }
 
     @Override
     public @Nullable String getLocalServiceName() {
-        return this.spanData.getResource().getAttribute(SERVICE_NAME);
+        return spanData().getResource().getAttribute(SERVICE_NAME);
     }
 
     @Override
     public FinishedSpan setLocalServiceName(String localServiceName) {
-        this.spanData.resources.put(SERVICE_NAME, localServiceName);
+        mutableSpanData().resources().put(SERVICE_NAME, localServiceName);
         return this;
     }
 
     @Override
     public List<Link> getLinks() {
-        return this.spanData.getLinks()
+        return spanData().getLinks()
             .stream()
             .map(linkData -> new Link(OtelTraceContext.fromOtel(linkData.getSpanContext()),
                     linkData.getAttributes()
@@ -331,14 +389,14 @@ public class OtelFinishedSpan implements FinishedSpan {
         Map<String, Object> tags = link.getTags();
         AttributesBuilder builder = Attributes.builder();
         tags.forEach((s, o) -> builder.put(getAttributeKey(s, o), o));
-        this.spanData.getLinks()
+        mutableSpanData().links()
             .add(LinkData.create(OtelTraceContext.toOtelSpanContext(traceContext), builder.build()));
         return this;
     }
 
     @Override
     public String toString() {
-        return "SpanDataToReportedSpan{" + "spanData=" + spanData + '}';
+        return "SpanDataToReportedSpan{" + "spanData=" + spanData() + '}';
     }
 
     /**
@@ -358,6 +416,11 @@ public class OtelFinishedSpan implements FinishedSpan {
 
     }
 
+    /**
+     * Copy-on-write view of a {@link SpanData}. Each component is read from the delegate
+     * until it is first modified and the {@link Attributes} and {@link Resource} rebuilt
+     * from modified components are kept until the next modification.
+     */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static class MutableSpanData extends DelegatingSpanData {
 
@@ -367,23 +430,80 @@ public class OtelFinishedSpan implements FinishedSpan {
 
         long endEpochNanos;
 
-        final Map<AttributeKey, Object> tags = new HashMap<>();
+        private @Nullable Map<AttributeKey, Object> tags;
+
+        private @Nullable Map<AttributeKey, Object> resources;
 
-        final Map<AttributeKey, Object> resources = new HashMap<>();
+        private @Nullable List<EventData> events;
 
-        final List<EventData> events = new ArrayList<>();
+        private @Nullable List<LinkData> links;
 
-        final List<LinkData> links = new ArrayList<>();
+        private @Nullable Attributes attributes;
+
+        private @Nullable Resource resource;
 
         MutableSpanData(SpanData delegate) {
             super(delegate);
             this.name = delegate.getName();
             this.startEpochNanos = delegate.getStartEpochNanos();
             this.endEpochNanos = delegate.getEndEpochNanos();
-            delegate.getAttributes().forEach(this.tags::put);
-            this.events.addAll(delegate.getEvents());
-            this.links.addAll(delegate.getLinks());
-            this.resources.putAll(delegate.getResource().getAttributes().asMap());
+        }
+
+        /**
+         * Returns the tags for modification, copying them from the delegate on first use.
+         * @return modifiable tags
+         */
+        Map<AttributeKey, Object> tags() {
+            Map<AttributeKey, Object> tags = this.tags;
+            if (tags == null) {
+                tags = new HashMap<>();
+                super.getAttributes().forEach(tags::put);
+                this.tags = tags;
+            }
+            this.attributes = null;
+            return tags;
+        }
+
+        /**
+         * Returns the resource attributes for modification, copying them from the
+         * delegate on first use.
+         * @return modifiable resource attributes
+         */
+        Map<AttributeKey, Object> resources() {
+            Map<AttributeKey, Object> resources = this.resources;
+            if (resources == null) {
+                resources = new HashMap<>(super.getResource().getAttributes().asMap());
+                this.resources = resources;
+            }
+            this.resource = null;
+            return resources;
+        }
+
+        /**
+         * Returns the events for modification, copying them from the delegate on first
+         * use.
+         * @return modifiable events
+         */
+        List<EventData> events() {
+            List<EventData> events = this.events;
+            if (events == null) {
+                events = new ArrayList<>(super.getEvents());
+                this.events = events;
+            }
+            return events;
+        }
+
+        /**
+         * Returns the links for modification, copying them from the delegate on first use.
+         * @return modifiable links
+         */
+        List<LinkData> links() {
+            List<LinkData> links = this.links;
+            if (links == null) {
+                links = new ArrayList<>(super.getLinks());
+                this.links = links;
+            }
+            return links;
         }
 
         @Override
@@ -398,16 +518,22 @@ public class OtelFinishedSpan implements FinishedSpan {
 
         @Override
         public Attributes getAttributes() {
-            AttributesBuilder builder = Attributes.builder();
-            for (Map.Entry<AttributeKey, Object> entry : this.tags.entrySet()) {
-                builder = builder.put(entry.getKey(), entry.getValue());
+            Map<AttributeKey, Object> tags = this.tags;
+            if (tags == null) {
+                return super.getAttributes();
             }
-            return builder.build();
+            Attributes attributes = this.attributes;
+            if (attributes == null) {
+                attributes = toAttributes(tags);
+                this.attributes = attributes;
+            }
+            return attributes;
         }
 
         @Override
         public List<EventData> getEvents() {
-            return this.events;
+            List<EventData> events = this.events;
+            return events != null ? events : super.getEvents();
         }
 
         @Override
@@ -427,16 +553,30 @@ public class OtelFinishedSpan implements FinishedSpan {
 
         @Override
         public List<LinkData> getLinks() {
-            return this.links;
+            List<LinkData> links = this.links;
+            return links != null ? links : super.getLinks();
         }
 
         @Override
         public Resource getResource() {
+            Map<AttributeKey, Object> resources = this.resources;
+            if (resources == null) {
+                return super.getResource();
+            }
+            Resource resource = this.resource;
+            if (resource == null) {
+                resource = Resource.create(toAttributes(resources));
+                this.resource = resource;
+            }
+            return resource;
+        }
+
+        private static Attributes toAttributes(Map<AttributeKey, Object> map) {
             AttributesBuilder builder = Attributes.builder();
-            for (Map.Entry<AttributeKey, Object> entry : this.resources.entrySet()) {
+            for (Map.Entry<AttributeKey, Object> entry : map.entrySet()) {
                 builder = builder.put(entry.getKey(), entry.getValue());
             }
-            return Resource.create(builder.build());
+            return builder.build();
         }
 
     }
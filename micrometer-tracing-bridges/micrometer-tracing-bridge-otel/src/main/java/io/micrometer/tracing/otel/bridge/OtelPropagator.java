@@ -65,7 +65,24 @@ public class OtelPropagator implements Propagator {
 
     @Override
     public <C> Span.Builder extract(@Nullable C carrier, Getter<C> getter) {
-        Context extracted = this.propagator.extract(Context.current(), carrier, new TextMapGetter<C>() {
+        Context extracted = extractOtelContext(carrier, getter);
+        io.opentelemetry.api.trace.Span span = io.opentelemetry.api.trace.Span.fromContextOrNull(extracted);
+        OtelTraceContext otelTraceContext = getOtelTraceContext(extracted, span);
+        return OtelSpanBuilder.fromOtel(this.tracer).setParent(otelTraceContext);
+    }
+
+    @Override
+    public <C> @Nullable TraceContext extractContext(@Nullable C carrier, Getter<C> getter) {
+        Context extracted = extractOtelContext(carrier, getter);
+        io.opentelemetry.api.trace.Span span = io.opentelemetry.api.trace.Span.fromContextOrNull(extracted);
+        if (span == null || !span.getSpanContext().isValid()) {
+            return null;
+        }
+        return new OtelTraceContext(extracted, span.getSpanContext(), span);
+    }
+
+    private <C> Context extractOtelContext(@Nullable C carrier, Getter<C> getter) {
+        return this.propagator.extract(Context.current(), carrier, new TextMapGetter<C>() {
             @Override
             public Iterable<String> keys(C carrier) {
                 return fields();
@@ -87,9 +104,6 @@ public class OtelPropagator implements Propagator {
                 return getter.getAll(carrier, key).iterator();
             }
         });
-        io.opentelemetry.api.trace.Span span = io.opentelemetry.api.trace.Span.fromContextOrNull(extracted);
-        OtelTraceContext otelTraceContext = getOtelTraceContext(extracted, span);
-        return OtelSpanBuilder.fromOtel(this.tracer).setParent(otelTraceContext);
     }
 
     private static OtelTraceContext getOtelTraceContext(Context extracted,
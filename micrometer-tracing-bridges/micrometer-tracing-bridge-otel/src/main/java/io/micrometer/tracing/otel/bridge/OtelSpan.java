@@ -17,6 +17,7 @@ package io.micrometer.tracing.otel.bridge;
 
 import io.micrometer.tracing.Span;
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.ReadableSpan;
@@ -69,6 +70,12 @@ public class OtelSpan implements Span {
         return new OtelSpan(span, context);
     }
 
+    static Span fromOtel(io.opentelemetry.api.trace.Span span, SpanContext parent) {
+        OtelSpan otelSpan = new OtelSpan(span);
+        otelSpan.otelTraceContext.captureParent(parent);
+        return otelSpan;
+    }
+
     @Override
     public boolean isNoop() {
         return !this.delegate.isRecording();
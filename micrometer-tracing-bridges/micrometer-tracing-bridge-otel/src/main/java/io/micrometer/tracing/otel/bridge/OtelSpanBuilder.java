@@ -23,6 +23,7 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.*;
+import io.opentelemetry.context.Context;
 import org.jspecify.annotations.Nullable;
 
 import java.util.AbstractMap.SimpleEntry;
@@ -227,12 +228,16 @@ class OtelSpanBuilder implements Span.Builder {
     @Override
     public Span start() {
         SpanBuilder spanBuilder = this.tracer.spanBuilder(StringUtils.isNotEmpty(this.name) ? this.name : "");
+        Context parentContext = Context.current();
         if (this.parentTraceContext != null) {
-            spanBuilder.setParent(OtelTraceContext.toOtelContext(this.parentTraceContext));
+            parentContext = OtelTraceContext.toOtelContext(this.parentTraceContext);
+            spanBuilder.setParent(parentContext);
         }
         if (this.noParent) {
+            parentContext = Context.root();
             spanBuilder.setNoParent();
         }
+        SpanContext parent = io.opentelemetry.api.trace.Span.fromContext(parentContext).getSpanContext();
         spanBuilder.setAllAttributes(this.attributes.build());
         spanBuilder.setSpanKind(this.spanKind);
         if (this.startTimestampUnit != null) {
@@ -247,9 +252,10 @@ class OtelSpanBuilder implements Span.Builder {
         this.annotations.forEach(span::addEvent);
         if (this.parentTraceContext != null) {
             return OtelSpan.fromOtel(
-                    new SpanFromSpanContext(span, span.getSpanContext(), (OtelTraceContext) this.parentTraceContext));
+                    new SpanFromSpanContext(span, span.getSpanContext(), (OtelTraceContext) this.parentTraceContext),
+                    parent);
         }
-        return OtelSpan.fromOtel(span);
+        return OtelSpan.fromOtel(span, parent);
     }
 
 }
@@ -20,6 +20,7 @@ import io.micrometer.tracing.TraceContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 
 import java.util.Objects;
@@ -39,6 +40,17 @@ public class OtelTraceContext implements TraceContext {
 
     final @Nullable Span span;
 
+    // parent the span was started with, captured by the bridge when it starts the span
+    private @Nullable SpanContext parentSpanContext;
+
+    // span wrapping this context, created on first use so that it can be shared by all
+    // the lookups of the current span while this context is in scope
+    private @Nullable OtelSpan otelSpan;
+
+    // context made current when this context is put in scope, reused as long as it is
+    // put in scope on top of the same parent context
+    private @Nullable ScopeContext scopeContext;
+
     OtelTraceContext(@Nullable Context context, SpanContext delegate, @Nullable Span span) {
         this(new AtomicReference<>(context == null ? Context.current() : context), delegate, span);
     }
@@ -114,17 +126,33 @@ public class OtelTraceContext implements TraceContext {
 
     @Override
     public @Nullable String parentId() {
-        Span spanContextSpanOrSpan = this.span instanceof SpanFromSpanContext ? ((SpanFromSpanContext) this.span).span
-                : this.span;
-        if (spanContextSpanOrSpan instanceof ReadableSpan) {
-            ReadableSpan readableSpan = (ReadableSpan) spanContextSpanOrSpan;
-            String parentSpanId = readableSpan.toSpanData().getParentSpanId();
-            if (Objects.equals(Span.getInvalid().getSpanContext().getSpanId(), parentSpanId)) {
+        SpanContext parent = this.parentSpanContext;
+        if (parent == null) {
+            ReadableSpan readableSpan = readableSpan();
+            if (readableSpan == null) {
                 return null;
             }
-            return parentSpanId;
+            parent = readableSpan.getParentSpanContext();
+        }
+        return parent.isValid() ? parent.getSpanId() : null;
+    }
+
+    private @Nullable ReadableSpan readableSpan() {
+        Span spanContextSpanOrSpan = this.span instanceof SpanFromSpanContext ? ((SpanFromSpanContext) this.span).span
+                : this.span;
+        return spanContextSpanOrSpan instanceof ReadableSpan ? (ReadableSpan) spanContextSpanOrSpan : null;
+    }
+
+    /**
+     * Captures the parent the span was started with, so that {@link #parentId()} doesn't
+     * have to look it up. Nothing is captured for spans that are not recorded, which
+     * have no parent id.
+     * @param parent parent span context
+     */
+    void captureParent(SpanContext parent) {
+        if (readableSpan() != null) {
+            this.parentSpanContext = parent;
         }
-        return null;
     }
 
     @Override
@@ -132,6 +160,21 @@ public class OtelTraceContext implements TraceContext {
         return this.delegate.getSpanId();
     }
 
+    @Override
+    public long traceIdHigh() {
+        return BigendianEncoding.longFromBase16String(this.delegate.getTraceId(), 0);
+    }
+
+    @Override
+    public long traceIdLow() {
+        return BigendianEncoding.longFromBase16String(this.delegate.getTraceId(), BigendianEncoding.LONG_BASE16);
+    }
+
+    @Override
+    public long spanIdAsLong() {
+        return BigendianEncoding.longFromBase16String(this.delegate.getSpanId());
+    }
+
     @Override
     public @Nullable Boolean sampled() {
         return this.delegate.isSampled();
@@ -147,6 +190,32 @@ public class OtelTraceContext implements TraceContext {
         return ctx != null ? ctx : Context.root();
     }
 
+    OtelSpan otelSpan() {
+        OtelSpan otelSpan = this.otelSpan;
+        if (otelSpan == null) {
+            otelSpan = new OtelSpan(this);
+            this.otelSpan = otelSpan;
+        }
+        return otelSpan;
+    }
+
+    /**
+     * Returns the OTel context to make current when this context is put in scope.
+     * @param parent context the scope is opened on top of
+     * @param key key to store this context under
+     * @return parent context with this context's span and this context stored under the
+     * key
+     */
+    Context scopeContext(Context parent, ContextKey<OtelTraceContext> key) {
+        ScopeContext scopeContext = this.scopeContext;
+        if (scopeContext == null || scopeContext.parent != parent) {
+            Context context = parent.with(new SpanFromSpanContext(this.span, this.delegate, this)).with(key, this);
+            scopeContext = new ScopeContext(parent, context);
+            this.scopeContext = scopeContext;
+        }
+        return scopeContext.context;
+    }
+
     SpanContext spanContext() {
         return this.delegate;
     }
@@ -172,4 +241,17 @@ public class OtelTraceContext implements TraceContext {
         return Objects.hash(this.delegate);
     }
 
+    private static final class ScopeContext {
+
+        private final Context parent;
+
+        private final Context context;
+
+        private ScopeContext(Context parent, Context context) {
+            this.parent = parent;
+            this.context = context;
+        }
+
+    }
+
 }
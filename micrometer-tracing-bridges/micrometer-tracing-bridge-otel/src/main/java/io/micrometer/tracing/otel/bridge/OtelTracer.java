@@ -17,6 +17,7 @@ package io.micrometer.tracing.otel.bridge;
 
 import org.jspecify.annotations.Nullable;
 import io.micrometer.tracing.*;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 
@@ -81,7 +82,7 @@ public class OtelTracer implements Tracer {
         try {
             return OtelSpan.fromOtel(this.tracer.spanBuilder("")
                 .setParent(OtelTraceContext.toOtelContext(parent.context()))
-                .startSpan());
+                .startSpan(), otelSpan.context().spanContext());
         }
         finally {
             if (scope != null) {
@@ -122,7 +123,7 @@ public class OtelTracer implements Tracer {
             if (io.opentelemetry.api.trace.Span.getInvalid().equals(context.span)) {
                 return null;
             }
-            return new OtelSpan(context);
+            return context.otelSpan();
         }
         io.opentelemetry.api.trace.Span currentSpan = io.opentelemetry.api.trace.Span.current();
         if (currentSpan == null || currentSpan.equals(io.opentelemetry.api.trace.Span.getInvalid())) {
@@ -133,7 +134,8 @@ public class OtelTracer implements Tracer {
 
     @Override
     public Span nextSpan() {
-        return new OtelSpan(this.tracer.spanBuilder("").startSpan());
+        SpanContext parent = io.opentelemetry.api.trace.Span.current().getSpanContext();
+        return OtelSpan.fromOtel(this.tracer.spanBuilder("").startSpan(), parent);
     }
 
     @Override
@@ -200,11 +202,21 @@ public class OtelTracer implements Tracer {
         return this.otelBaggageManager.createBaggageInScope(traceContext, name, value);
     }
 
+    @Override
+    public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext, Map<String, String> baggage) {
+        return this.otelBaggageManager.createBaggageInScope(traceContext, baggage);
+    }
+
     @Override
     public List<String> getBaggageFields() {
         return this.otelBaggageManager.getBaggageFields();
     }
 
+    @Override
+    public BaggageFieldIndex getBaggageFieldIndex() {
+        return this.otelBaggageManager.getBaggageFieldIndex();
+    }
+
     /**
      * Publisher of events.
      */
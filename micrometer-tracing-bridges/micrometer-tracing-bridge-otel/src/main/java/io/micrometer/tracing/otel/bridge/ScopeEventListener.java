@@ -0,0 +1,46 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import io.opentelemetry.context.Context;
+
+/**
+ * Listener notified by the {@link EventPublishingContextWrapper} when a scope is being
+ * attached, closed or restored. Unlike an {@link EventListener}, no event object is
+ * created for the notifications. Can be used for e.g. reacting to MDC entry changes.
+ *
+ * @since 1.7.0
+ */
+public interface ScopeEventListener {
+
+    /**
+     * Called after a scope of the given context has been attached.
+     * @param context context of the attached scope
+     */
+    void onAttached(Context context);
+
+    /**
+     * Called after a scope has been closed, before the previous context is restored.
+     */
+    void onClosed();
+
+    /**
+     * Called after a scope has been closed and the previous context restored.
+     * @param context context that was current before the closed scope was attached
+     */
+    void onRestored(Context context);
+
+}
@@ -20,18 +20,20 @@ import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
 import org.slf4j.MDC;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * {@link EventListener} to set baggage entries on {@link MDC}.
+ * {@link EventListener} to set baggage entries on {@link MDC}. Can also be registered as
+ * a {@link ScopeEventListener}, which does not require any event objects to be created.
  *
  * @author Marcin Grzejszczak
  * @since 1.0.0
  */
-public class Slf4JBaggageEventListener implements EventListener {
+public class Slf4JBaggageEventListener implements EventListener, ScopeEventListener {
 
     private static final InternalLogger log = InternalLoggerFactory.getInstance(Slf4JBaggageEventListener.class);
 
@@ -50,22 +52,34 @@ public class Slf4JBaggageEventListener implements EventListener {
         this.correlationFields = correlationFields;
     }
 
-    private void onScopeAttached(EventPublishingContextWrapper.ScopeAttachedEvent event) {
+    @Override
+    public void onAttached(Context context) {
         if (log.isTraceEnabled()) {
-            log.trace("Got scope attached event [" + event + "]");
+            log.trace("Got scope attached event for context [" + context + "]");
         }
-        Span span = event.getSpan();
-        if (event.getBaggage() != null && span != null && span.getSpanContext().isValid()) {
-            putEntriesIntoMdc(event.getBaggage());
+        Baggage baggage = Baggage.fromContextOrNull(context);
+        Span span = Span.fromContextOrNull(context);
+        if (baggage != null && span != null && span.getSpanContext().isValid()) {
+            putEntriesIntoMdc(baggage);
         }
     }
 
-    private void onScopeRestored(EventPublishingContextWrapper.ScopeRestoredEvent event) {
+    @Override
+    public void onClosed() {
         if (log.isTraceEnabled()) {
-            log.trace("Got scope restored event [" + event + "]");
+            log.trace("Got scope closed event");
         }
-        if (event.getBaggage() != null) {
-            putEntriesIntoMdc(event.getBaggage());
+        correlationFields.forEach(MDC::remove);
+    }
+
+    @Override
+    public void onRestored(Context context) {
+        if (log.isTraceEnabled()) {
+            log.trace("Got scope restored event for context [" + context + "]");
+        }
+        Baggage baggage = Baggage.fromContextOrNull(context);
+        if (baggage != null) {
+            putEntriesIntoMdc(baggage);
         }
     }
 
@@ -78,23 +92,16 @@ public class Slf4JBaggageEventListener implements EventListener {
         });
     }
 
-    private void onScopeClosed(EventPublishingContextWrapper.ScopeClosedEvent event) {
-        if (log.isTraceEnabled()) {
-            log.trace("Got scope closed event [" + event + "]");
-        }
-        correlationFields.forEach(MDC::remove);
-    }
-
     @Override
     public void onEvent(Object event) {
         if (event instanceof EventPublishingContextWrapper.ScopeAttachedEvent) {
-            onScopeAttached((EventPublishingContextWrapper.ScopeAttachedEvent) event);
+            onAttached(((EventPublishingContextWrapper.ScopeAttachedEvent) event).contextOrRoot());
         }
         else if (event instanceof EventPublishingContextWrapper.ScopeClosedEvent) {
-            onScopeClosed((EventPublishingContextWrapper.ScopeClosedEvent) event);
+            onClosed();
         }
         else if (event instanceof EventPublishingContextWrapper.ScopeRestoredEvent) {
-            onScopeRestored((EventPublishingContextWrapper.ScopeRestoredEvent) event);
+            onRestored(((EventPublishingContextWrapper.ScopeRestoredEvent) event).contextOrRoot());
         }
     }
 
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import io.micrometer.common.util.StringUtils;
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageEntry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Combines the {@link Slf4JEventListener} and the {@link Slf4JBaggageEventListener}:
+ * sets the trace and span ids and the correlation baggage entries of the current
+ * context on Slf4j's {@link MDC}. Instead of removing all entries when a scope is closed
+ * and putting them again when the previous scope is restored, only the {@link MDC}
+ * entries whose values differ from the ones of the new current context are changed.
+ * <p>
+ * Correlation fields are matched ignoring case, and the baggage entries are put on the
+ * {@link MDC} under the names of the configured correlation fields. Blank baggage values
+ * are not put on the {@link MDC}. As with the combined listeners, the baggage of an
+ * attached context is only put on the {@link MDC} when the context has a valid span,
+ * while the baggage of a restored context is always put on it.
+ * <p>
+ * A scope closed through {@link #onClosed()} does not change the {@link MDC} by itself,
+ * since the restored context is always notified right after. A published
+ * {@link EventPublishingContextWrapper.ScopeClosedEvent} may not be followed by a restored
+ * context (e.g. when the tracer clears the current span), so it removes the entries this
+ * listener has put on the {@link MDC}. The entries of a thread are tracked until none of
+ * them is left on the {@link MDC}, e.g. after the outermost scope was closed.
+ *
+ * @since 1.7.0
+ */
+public class Slf4JCorrelationEventListener implements EventListener, ScopeEventListener {
+
+    private static final InternalLogger log = InternalLoggerFactory.getInstance(Slf4JCorrelationEventListener.class);
+
+    private static final String DEFAULT_TRACE_ID_KEY = "traceId";
+
+    private static final String DEFAULT_SPAN_ID_KEY = "spanId";
+
+    private final String traceIdKey;
+
+    private final String spanIdKey;
+
+    private final String[] correlationFields;
+
+    private final ThreadLocal<Written> written;
+
+    /**
+     * Creates a new instance of {@link Slf4JCorrelationEventListener}.
+     * @param correlationFields correlation fields
+     */
+    public Slf4JCorrelationEventListener(List<String> correlationFields) {
+        this(DEFAULT_TRACE_ID_KEY, DEFAULT_SPAN_ID_KEY, correlationFields);
+    }
+
+    /**
+     * Creates a new instance of {@link Slf4JCorrelationEventListener}.
+     * @param traceIdKey custom traceId Key
+     * @param spanIdKey custom spanId Key
+     * @param correlationFields correlation fields
+     */
+    public Slf4JCorrelationEventListener(String traceIdKey, String spanIdKey, List<String> correlationFields) {
+        this.traceIdKey = traceIdKey;
+        this.spanIdKey = spanIdKey;
+        this.correlationFields = correlationFields.toArray(new String[0]);
+        Map<String, Integer> correlationFieldIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < this.correlationFields.length; i++) {
+            correlationFieldIndex.putIfAbsent(this.correlationFields[i], i);
+        }
+        int size = this.correlationFields.length;
+        this.written = ThreadLocal.withInitial(() -> new Written(correlationFieldIndex, size));
+    }
+
+    @Override
+    public void onAttached(Context context) {
+        if (log.isTraceEnabled()) {
+            log.trace("Got scope attached event for context [" + context + "]");
+        }
+        updateMdc(context, true);
+    }
+
+    @Override
+    public void onClosed() {
+        log.trace("Got scope closed event");
+    }
+
+    @Override
+    public void onRestored(Context context) {
+        if (log.isTraceEnabled()) {
+            log.trace("Got scope restored event for context [" + context + "]");
+        }
+        updateMdc(context, false);
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        if (event instanceof EventPublishingContextWrapper.ScopeAttachedEvent) {
+            onAttached(((EventPublishingContextWrapper.ScopeAttachedEvent) event).contextOrRoot());
+        }
+        else if (event instanceof EventPublishingContextWrapper.ScopeClosedEvent) {
+            onClosed();
+            clearMdc();
+        }
+        else if (event instanceof EventPublishingContextWrapper.ScopeRestoredEvent) {
+            onRestored(((EventPublishingContextWrapper.ScopeRestoredEvent) event).contextOrRoot());
+        }
+    }
+
+    private void updateMdc(Context context, boolean attached) {
+        Written written = this.written.get();
+        Span span = Span.fromContextOrNull(context);
+        SpanContext spanContext = span != null ? span.getSpanContext() : SpanContext.getInvalid();
+        boolean validSpan = spanContext.isValid();
+        if (validSpan) {
+            written.traceId = update(this.traceIdKey, written.traceId, spanContext.getTraceId());
+            written.spanId = update(this.spanIdKey, written.spanId, spanContext.getSpanId());
+        }
+        else {
+            written.traceId = update(this.traceIdKey, written.traceId, null);
+            written.spanId = update(this.spanIdKey, written.spanId, null);
+        }
+        if (this.correlationFields.length > 0) {
+            written.collect(validSpan || !attached ? Baggage.fromContextOrNull(context) : null);
+            for (int i = 0; i < this.correlationFields.length; i++) {
+                written.values[i] = update(this.correlationFields[i], written.values[i], written.next[i]);
+            }
+        }
+        if (written.isEmpty()) {
+            this.written.remove();
+        }
+    }
+
+    private void clearMdc() {
+        Written written = this.written.get();
+        update(this.traceIdKey, written.traceId, null);
+        update(this.spanIdKey, written.spanId, null);
+        for (int i = 0; i < this.correlationFields.length; i++) {
+            update(this.correlationFields[i], written.values[i], null);
+        }
+        this.written.remove();
+    }
+
+    /**
+     * Changes the {@link MDC} entry only when its value differs from the given one.
+     * Entries are compared with the {@link MDC} rather than only with the previously
+     * written value, in case the {@link MDC} got cleared in the meantime.
+     */
+    private static @Nullable String update(String key, @Nullable String previous, @Nullable String value) {
+        if (value == null) {
+            if (previous != null) {
+                MDC.remove(key);
+            }
+        }
+        else if (!value.equals(MDC.get(key))) {
+            MDC.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Values this listener has put on the {@link MDC} of the current thread.
+     */
+    private static final class Written implements BiConsumer<String, BaggageEntry> {
+
+        private final Map<String, Integer> correlationFieldIndex;
+
+        private final @Nullable String[] values;
+
+        private final @Nullable String[] next;
+
+        private @Nullable String traceId;
+
+        private @Nullable String spanId;
+
+        private Written(Map<String, Integer> correlationFieldIndex, int size) {
+            this.correlationFieldIndex = correlationFieldIndex;
+            this.values = new String[size];
+            this.next = new String[size];
+        }
+
+        private boolean isEmpty() {
+            if (this.traceId != null || this.spanId != null) {
+                return false;
+            }
+            for (String value : this.values) {
+                if (value != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void collect(@Nullable Baggage baggage) {
+            Arrays.fill(this.next, null);
+            if (baggage != null && !baggage.isEmpty()) {
+                baggage.forEach(this);
+            }
+        }
+
+        @Override
+        public void accept(String key, BaggageEntry entry) {
+            Integer index = this.correlationFieldIndex.get(key);
+            if (index != null && StringUtils.isNotBlank(entry.getValue())) {
+                this.next[index] = entry.getValue();
+            }
+        }
+
+    }
+
+}
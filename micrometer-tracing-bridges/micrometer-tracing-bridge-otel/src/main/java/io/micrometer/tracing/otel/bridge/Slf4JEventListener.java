@@ -18,14 +18,17 @@ package io.micrometer.tracing.otel.bridge;
 import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
 import org.slf4j.MDC;
 
 /**
- * Reacts to events with updating of Slf4j's {@link MDC}.
+ * Reacts to events with updating of Slf4j's {@link MDC}. Can be registered either as an
+ * {@link EventListener} or as a {@link ScopeEventListener}, the latter not requiring any
+ * event objects to be created.
  *
  * @since 1.0.0
  */
-public class Slf4JEventListener implements EventListener {
+public class Slf4JEventListener implements EventListener, ScopeEventListener {
 
     private static final InternalLogger log = InternalLoggerFactory.getInstance(Slf4JEventListener.class);
 
@@ -51,40 +54,43 @@ public class Slf4JEventListener implements EventListener {
         this.spanIdKey = spanIdKey;
     }
 
-    private void onScopeAttached(EventPublishingContextWrapper.ScopeAttachedEvent event) {
-        log.trace("Got scope changed event [{}]", event);
-        Span span = event.getSpan();
-        if (span != null) {
-            MDC.put(traceIdKey, span.getSpanContext().getTraceId());
-            MDC.put(spanIdKey, span.getSpanContext().getSpanId());
-        }
+    @Override
+    public void onAttached(Context context) {
+        log.trace("Got scope attached event for context [{}]", context);
+        putSpanIntoMdc(context);
     }
 
-    private void onScopeRestored(EventPublishingContextWrapper.ScopeRestoredEvent event) {
-        log.trace("Got scope restored event [{}]", event);
-        Span span = event.getSpan();
+    @Override
+    public void onClosed() {
+        log.trace("Got scope closed event");
+        MDC.remove(traceIdKey);
+        MDC.remove(spanIdKey);
+    }
+
+    @Override
+    public void onRestored(Context context) {
+        log.trace("Got scope restored event for context [{}]", context);
+        putSpanIntoMdc(context);
+    }
+
+    private void putSpanIntoMdc(Context context) {
+        Span span = Span.fromContextOrNull(context);
         if (span != null) {
             MDC.put(traceIdKey, span.getSpanContext().getTraceId());
             MDC.put(spanIdKey, span.getSpanContext().getSpanId());
         }
     }
 
-    private void onScopeClosed(EventPublishingContextWrapper.ScopeClosedEvent event) {
-        log.trace("Got scope closed event [{}]", event);
-        MDC.remove(traceIdKey);
-        MDC.remove(spanIdKey);
-    }
-
     @Override
     public void onEvent(Object event) {
         if (event instanceof EventPublishingContextWrapper.ScopeAttachedEvent) {
-            onScopeAttached((EventPublishingContextWrapper.ScopeAttachedEvent) event);
+            onAttached(((EventPublishingContextWrapper.ScopeAttachedEvent) event).contextOrRoot());
         }
         else if (event instanceof EventPublishingContextWrapper.ScopeClosedEvent) {
-            onScopeClosed((EventPublishingContextWrapper.ScopeClosedEvent) event);
+            onClosed();
         }
         else if (event instanceof EventPublishingContextWrapper.ScopeRestoredEvent) {
-            onScopeRestored((EventPublishingContextWrapper.ScopeRestoredEvent) event);
+            onRestored(((EventPublishingContextWrapper.ScopeRestoredEvent) event).contextOrRoot());
         }
     }
 
@@ -17,6 +17,7 @@ package io.micrometer.tracing.otel.propagation;
 
 import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import io.micrometer.tracing.BaggageFieldIndex;
 import io.micrometer.tracing.BaggageManager;
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.baggage.BaggageBuilder;
@@ -55,6 +56,8 @@ public class BaggageTextMapPropagator implements TextMapPropagator {
 
     private final BaggageManager baggageManager;
 
+    private final BaggageFieldIndex remoteFieldIndex;
+
     /**
      * Creates a new instance of {@link BaggageTextMapPropagator}.
      * @param remoteFields remote fields
@@ -63,6 +66,7 @@ public class BaggageTextMapPropagator implements TextMapPropagator {
     public BaggageTextMapPropagator(List<String> remoteFields, BaggageManager baggageManager) {
         this.remoteFields = remoteFields;
         this.baggageManager = baggageManager;
+        this.remoteFieldIndex = BaggageFieldIndex.of(remoteFields);
     }
 
     @Override
@@ -72,17 +76,14 @@ public class BaggageTextMapPropagator implements TextMapPropagator {
 
     @Override
     public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {
-        List<Map.Entry<String, String>> baggageEntries = applicableBaggageEntries();
-        baggageEntries.forEach(e -> setter.set(carrier, e.getKey(), e.getValue()));
-    }
-
-    private List<Map.Entry<String, String>> applicableBaggageEntries() {
-        Map<String, String> allBaggage = this.baggageManager.getAllBaggage();
-        List<String> lowerCaseKeys = this.remoteFields.stream().map(String::toLowerCase).collect(Collectors.toList());
-        return allBaggage.entrySet()
-            .stream()
-            .filter(e -> lowerCaseKeys.contains(e.getKey().toLowerCase()))
-            .collect(Collectors.toList());
+        if (this.remoteFieldIndex.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : this.baggageManager.getAllBaggage().entrySet()) {
+            if (this.remoteFieldIndex.contains(entry.getKey())) {
+                setter.set(carrier, entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     @Override
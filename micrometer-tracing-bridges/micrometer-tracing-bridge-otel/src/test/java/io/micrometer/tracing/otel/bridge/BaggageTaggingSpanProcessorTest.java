@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import org.junit.jupiter.api.Test;
@@ -68,4 +69,48 @@ class BaggageTaggingSpanProcessorTest {
         verifyNoMoreInteractions(span);
     }
 
+    @Test
+    void onStart_lookupTags_emptyBaggage() {
+        BaggageTaggingSpanProcessor spanProcessor = new BaggageTaggingSpanProcessor(Arrays.asList("tagOne", "tagTwo"),
+                BaggageTaggingSpanProcessor.Mode.LOOKUP_TAGS);
+
+        ReadWriteSpan span = mock(ReadWriteSpan.class);
+
+        spanProcessor.onStart(Context.root(), span);
+        spanProcessor.onStart(Context.root().with(Baggage.builder().put("otherTag", "otherValue").build()), span);
+        verifyNoInteractions(span);
+    }
+
+    @Test
+    void onStart_lookupTags_withBaggage() {
+        BaggageTaggingSpanProcessor spanProcessor = new BaggageTaggingSpanProcessor(Arrays.asList("tagOne", "tagTwo"),
+                BaggageTaggingSpanProcessor.Mode.LOOKUP_TAGS);
+
+        Baggage baggage = Baggage.builder()
+            .put("tagOne", "valueOne")
+            .put("tagTwo", "valueTwo")
+            .put("otherTag", "otherValue")
+            .build();
+        ReadWriteSpan span = mock(ReadWriteSpan.class);
+
+        spanProcessor.onStart(Context.root().with(baggage), span);
+        verify(span).setAllAttributes(Attributes.of(stringKey("tagOne"), "valueOne", stringKey("tagTwo"), "valueTwo"));
+
+        verifyNoMoreInteractions(span);
+    }
+
+    @Test
+    void onStart_lookupTags_withSingleMatchingBaggageEntry() {
+        BaggageTaggingSpanProcessor spanProcessor = new BaggageTaggingSpanProcessor(Arrays.asList("tagOne", "tagTwo"),
+                BaggageTaggingSpanProcessor.Mode.LOOKUP_TAGS);
+
+        Baggage baggage = Baggage.builder().put("tagTwo", "valueTwo").put("otherTag", "otherValue").build();
+        ReadWriteSpan span = mock(ReadWriteSpan.class);
+
+        spanProcessor.onStart(Context.root().with(baggage), span);
+        verify(span).setAttribute(stringKey("tagTwo"), "valueTwo");
+
+        verifyNoMoreInteractions(span);
+    }
+
 }
@@ -23,6 +23,7 @@ import io.micrometer.observation.Observation.Scope;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import io.micrometer.tracing.BaggageInScope;
+import io.micrometer.tracing.CurrentTraceContext;
 import io.micrometer.tracing.ScopedSpan;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
@@ -134,6 +135,28 @@ class BaggageTests {
         }
     }
 
+    @Test
+    void canSetAndRevertMultipleBaggageEntriesAtOnce() {
+        // GIVEN
+        Span span = tracer.nextSpan().start();
+        Map<String, String> baggage = new HashMap<>();
+        baggage.put(KEY_1, VALUE_1);
+        baggage.put(TAG_KEY, TAG_VALUE);
+        try (Tracer.SpanInScope spanInScope = tracer.withSpan(span)) {
+            // WHEN
+            try (CurrentTraceContext.Scope scope = this.tracer.createBaggageInScope(span.context(), baggage)) {
+                // THEN
+                then(tracer.getBaggage(KEY_1).get()).isEqualTo(VALUE_1);
+                then(tracer.getBaggage(TAG_KEY).get()).isEqualTo(TAG_VALUE);
+            }
+            then(tracer.getAllBaggage()).doesNotContainKeys(KEY_1, TAG_KEY);
+        }
+        span.end();
+
+        SpanData spanData = spanExporter.getFinishedSpanItems().get(0);
+        then(spanData.getAttributes().get(AttributeKey.stringKey(TAG_KEY))).isEqualTo(TAG_VALUE);
+    }
+
     @Test
     void canSetAndGetBaggageWithLegacyApi() {
         // GIVEN
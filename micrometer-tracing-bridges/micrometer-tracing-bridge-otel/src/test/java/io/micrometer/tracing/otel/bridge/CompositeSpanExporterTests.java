@@ -15,10 +15,12 @@
  */
 package io.micrometer.tracing.otel.bridge;
 
+import io.micrometer.tracing.exporter.FinishedSpan;
 import io.micrometer.tracing.exporter.SpanExportingPredicate;
 import io.micrometer.tracing.exporter.SpanFilter;
 import io.micrometer.tracing.exporter.SpanReporter;
 import io.micrometer.tracing.exporter.TestSpanReporter;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
@@ -33,9 +35,12 @@ import io.opentelemetry.sdk.trace.data.StatusData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import org.assertj.core.api.BDDAssertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -69,6 +74,56 @@ class CompositeSpanExporterTests {
         BDDAssertions.then(resultCode.isSuccess()).isTrue();
     }
 
+    @Test
+    void should_share_single_finished_span_and_export_unmodified_span_data() {
+        SpanExporter exporter = mock(SpanExporter.class);
+        given(exporter.export(BDDMockito.any())).willReturn(CompletableResultCode.ofSuccess());
+        List<FinishedSpan> seen = new ArrayList<>();
+        SpanExportingPredicate predicate = span -> seen.add(span);
+        SpanFilter filter = span -> {
+            seen.add(span);
+            return span;
+        };
+        SpanReporter reporter = seen::add;
+        SpanData fooSpan = new CustomSpanData("foo");
+
+        new CompositeSpanExporter(Collections.singleton(exporter), Collections.singletonList(predicate),
+                Collections.singletonList(reporter), Collections.singletonList(filter))
+            .export(Collections.singletonList(fooSpan));
+
+        BDDAssertions.then(seen).hasSize(3);
+        BDDAssertions.then(seen.get(1)).isSameAs(seen.get(0));
+        BDDAssertions.then(seen.get(2)).isSameAs(seen.get(0));
+        then(exporter).should()
+            .export(BDDMockito.argThat(spans -> spans.size() == 1 && spans.iterator().next() == fooSpan));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_export_span_data_as_filtered_when_reporter_modifies_span() {
+        SpanExporter exporter = mock(SpanExporter.class);
+        given(exporter.export(BDDMockito.any())).willReturn(CompletableResultCode.ofSuccess());
+        SpanFilter filter = span -> span.setName("filtered").setTags(Collections.singletonMap("filter", "true"));
+        List<String> reportedNames = new ArrayList<>();
+        SpanReporter reporter = span -> {
+            span.setName("reported").setTags(Collections.singletonMap("reporter", "true"));
+            reportedNames.add(span.getName());
+        };
+
+        new CompositeSpanExporter(Collections.singleton(exporter), null, Collections.singletonList(reporter),
+                Collections.singletonList(filter))
+            .export(Collections.singletonList(new CustomSpanData("foo")));
+
+        BDDAssertions.then(reportedNames).containsExactly("reported");
+        ArgumentCaptor<Collection<SpanData>> exported = ArgumentCaptor.forClass(Collection.class);
+        verify(exporter).export(exported.capture());
+        BDDAssertions.then(exported.getValue()).singleElement().satisfies(spanData -> {
+            BDDAssertions.then(spanData.getName()).isEqualTo("filtered");
+            BDDAssertions.then(spanData.getAttributes().get(AttributeKey.stringKey("filter"))).isEqualTo("true");
+            BDDAssertions.then(spanData.getAttributes().get(AttributeKey.stringKey("reporter"))).isNull();
+        });
+    }
+
     @Test
     void should_flush_all_exporters() {
         SpanExporter exporter = mock(SpanExporter.class);
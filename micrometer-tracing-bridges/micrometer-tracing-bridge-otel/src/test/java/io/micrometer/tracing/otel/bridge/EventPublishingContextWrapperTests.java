@@ -0,0 +1,121 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class EventPublishingContextWrapperTests {
+
+    List<Object> notifications = new ArrayList<>();
+
+    Context context = Context.root().with(ContextKey.named("foo"), "bar");
+
+    @Test
+    void should_notify_all_listeners_in_order() {
+        ContextStorage storage = new EventPublishingContextWrapper(listener("first"), listener("second"))
+            .apply(ContextStorage.defaultStorage());
+
+        try (Scope scope = storage.attach(this.context)) {
+            then(this.notifications).containsExactly("first attached", this.context, "second attached", this.context);
+            this.notifications.clear();
+        }
+
+        then(this.notifications).containsExactly("first closed", "second closed", "first restored", Context.root(),
+                "second restored", Context.root());
+    }
+
+    @Test
+    void should_not_notify_listeners_when_scope_was_not_changed() {
+        ContextStorage storage = new EventPublishingContextWrapper(listener("first"))
+            .apply(ContextStorage.defaultStorage());
+
+        try (Scope scope = storage.attach(Context.root())) {
+            then(scope).isSameAs(Scope.noop());
+        }
+
+        then(this.notifications).isEmpty();
+    }
+
+    @Test
+    void should_publish_events_to_event_publisher() {
+        ContextStorage storage = new EventPublishingContextWrapper(this.notifications::add)
+            .apply(ContextStorage.defaultStorage());
+
+        try (Scope scope = storage.attach(this.context)) {
+            then(this.notifications).hasSize(1);
+            then(this.notifications.get(0)).isInstanceOfSatisfying(
+                    EventPublishingContextWrapper.ScopeAttachedEvent.class,
+                    event -> then(event.context).isSameAs(this.context));
+        }
+
+        then(this.notifications).hasSize(3);
+        then(this.notifications.get(1)).isInstanceOf(EventPublishingContextWrapper.ScopeClosedEvent.class);
+        then(this.notifications.get(2)).isInstanceOfSatisfying(EventPublishingContextWrapper.ScopeRestoredEvent.class,
+                event -> then(event.context).isSameAs(Context.root()));
+    }
+
+    @Test
+    void should_update_mdc_through_slf4j_scope_event_listener() {
+        SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+                TraceFlags.getSampled(), TraceState.getDefault());
+        ContextStorage storage = new EventPublishingContextWrapper(new Slf4JEventListener())
+            .apply(ContextStorage.defaultStorage());
+
+        try (Scope scope = storage.attach(Context.root().with(Span.wrap(spanContext)))) {
+            then(MDC.get("traceId")).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+            then(MDC.get("spanId")).isEqualTo("b7ad6b7169203331");
+        }
+
+        then(MDC.get("traceId")).isNull();
+        then(MDC.get("spanId")).isNull();
+    }
+
+    private ScopeEventListener listener(String name) {
+        return new ScopeEventListener() {
+            @Override
+            public void onAttached(Context context) {
+                notifications.add(name + " attached");
+                notifications.add(context);
+            }
+
+            @Override
+            public void onClosed() {
+                notifications.add(name + " closed");
+            }
+
+            @Override
+            public void onRestored(Context context) {
+                notifications.add(name + " restored");
+                notifications.add(context);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class LocalIpResolverTests {
+
+    AtomicInteger lookups = new AtomicInteger();
+
+    AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void should_resolve_once_when_refresh_is_disabled() {
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ZERO, this::lookup, this.nanos::get, Runnable::run);
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        this.nanos.addAndGet(Duration.ofDays(1).toNanos());
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        then(this.lookups).hasValue(1);
+    }
+
+    @Test
+    void should_resolve_again_after_refresh_interval() {
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ofMinutes(1), this::lookup, this.nanos::get,
+                Runnable::run);
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        this.nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+
+        this.nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // the refresh is triggered by this call but doesn't hold it up
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        then(resolver.localIp()).isEqualTo("10.0.0.2");
+        then(this.lookups).hasValue(2);
+    }
+
+    @Test
+    void should_keep_previous_address_while_refreshing_in_background() {
+        List<Runnable> refreshes = new ArrayList<>();
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ofMinutes(1), this::lookup, this.nanos::get,
+                refreshes::add);
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        this.nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        then(refreshes).hasSize(1);
+        then(this.lookups).hasValue(1);
+
+        refreshes.get(0).run();
+
+        then(resolver.localIp()).isEqualTo("10.0.0.2");
+        then(this.lookups).hasValue(2);
+    }
+
+    @Test
+    void should_refresh_on_background_thread() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(1);
+        AtomicReference<Thread> refreshingThread = new AtomicReference<>();
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ofMinutes(1), this::lookup, this.nanos::get,
+                refresh -> {
+                    Thread thread = new Thread(() -> {
+                        refreshingThread.set(Thread.currentThread());
+                        refresh.run();
+                        refreshed.countDown();
+                    });
+                    thread.start();
+                });
+        resolver.localIp();
+        this.nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+
+        then(refreshed.await(5, TimeUnit.SECONDS)).isTrue();
+        then(refreshingThread.get()).isNotSameAs(Thread.currentThread());
+        then(resolver.localIp()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void should_try_again_when_refresh_could_not_be_scheduled() {
+        AtomicInteger attempts = new AtomicInteger();
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ofMinutes(1), this::lookup, this.nanos::get,
+                refresh -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new RejectedExecutionException();
+                    }
+                    refresh.run();
+                });
+        resolver.localIp();
+        this.nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+        then(resolver.localIp()).isEqualTo("10.0.0.1");
+
+        then(resolver.localIp()).isEqualTo("10.0.0.2");
+        then(attempts).hasValue(2);
+    }
+
+    @Test
+    @SuppressWarnings("NullAway")
+    void should_reject_null_instance() {
+        thenThrownBy(() -> LocalIpResolver.setInstance(null)).isInstanceOf(NullPointerException.class);
+        then(LocalIpResolver.getInstance()).isNotNull();
+    }
+
+    @Test
+    void should_cache_missing_address() {
+        LocalIpResolver resolver = new LocalIpResolver(Duration.ZERO, () -> {
+            this.lookups.incrementAndGet();
+            return null;
+        }, this.nanos::get, Runnable::run);
+
+        then(resolver.localIp()).isNull();
+        then(resolver.localIp()).isNull();
+        then(this.lookups).hasValue(1);
+    }
+
+    @Test
+    void should_be_used_by_finished_spans_without_local_ip() {
+        LocalIpResolver previous = LocalIpResolver.getInstance();
+        try {
+            LocalIpResolver
+                .setInstance(new LocalIpResolver(Duration.ZERO, this::lookup, this.nanos::get, Runnable::run));
+
+            then(OtelFinishedSpan.fromOtel(new OtelFinishedSpanTests.CustomSpanData()).getLocalIp())
+                .isEqualTo("10.0.0.1");
+            then(OtelFinishedSpan.fromOtel(new OtelFinishedSpanTests.CustomSpanData()).getLocalIp())
+                .isEqualTo("10.0.0.1");
+            then(this.lookups).hasValue(1);
+        }
+        finally {
+            LocalIpResolver.setInstance(previous);
+        }
+    }
+
+    private String lookup() {
+        return "10.0.0." + this.lookups.incrementAndGet();
+    }
+
+}
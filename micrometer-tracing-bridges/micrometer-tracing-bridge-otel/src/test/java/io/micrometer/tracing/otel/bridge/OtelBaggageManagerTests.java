@@ -18,16 +18,24 @@ package io.micrometer.tracing.otel.bridge;
 import io.micrometer.tracing.Baggage;
 import io.micrometer.tracing.BaggageInScope;
 import io.micrometer.tracing.TraceContext;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.baggage.BaggageEntry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import org.assertj.core.api.BDDAssertions;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.entry;
 
 class OtelBaggageManagerTests {
 
@@ -87,4 +95,129 @@ class OtelBaggageManagerTests {
         }
     }
 
+    @Test
+    void should_find_baggage_ignoring_case() {
+        Context context = Context.current()
+            .with(io.opentelemetry.api.baggage.Baggage.builder().put("Foo", "bar").put("baz", "qux").build());
+
+        try (Scope scope = context.makeCurrent()) {
+            Span span = otelTracer.spanBuilder("foo").startSpan();
+            TraceContext traceContext = OtelSpan.fromOtel(span, context).context();
+
+            BDDAssertions.then(otelBaggageManager.getBaggage("FOO").get()).isEqualTo("bar");
+            BDDAssertions.then(otelBaggageManager.getBaggage(traceContext, "foo"))
+                .isNotNull()
+                .extracting(Baggage::name)
+                .isEqualTo("Foo");
+            BDDAssertions.then(otelBaggageManager.getBaggage(traceContext, "missing")).isNull();
+        }
+    }
+
+    @Test
+    void should_prefer_baggage_of_trace_context_over_current_baggage() {
+        Span span = otelTracer.spanBuilder("foo").startSpan();
+        Context traceContextContext = Context.root()
+            .with(span)
+            .with(io.opentelemetry.api.baggage.Baggage.builder().put("foo", "from-trace-context").build());
+        TraceContext traceContext = OtelSpan.fromOtel(span, traceContextContext).context();
+        Context context = Context.current()
+            .with(io.opentelemetry.api.baggage.Baggage.builder().put("foo", "current").put("bar", "baz").build());
+
+        try (Scope scope = context.makeCurrent()) {
+            BDDAssertions.then(otelBaggageManager.getBaggage(traceContext, "foo").get())
+                .isEqualTo("from-trace-context");
+            BDDAssertions.then(otelBaggageManager.getBaggage(traceContext, "bar").get()).isEqualTo("baz");
+        }
+    }
+
+    @Test
+    void should_return_read_only_view_of_layered_baggage() {
+        Span span = otelTracer.spanBuilder("foo").startSpan();
+        Context traceContextContext = Context.root()
+            .with(span)
+            .with(io.opentelemetry.api.baggage.Baggage.builder().put("foo", "from-trace-context").build());
+        TraceContext traceContext = OtelSpan.fromOtel(span, traceContextContext).context();
+        Context context = Context.current()
+            .with(io.opentelemetry.api.baggage.Baggage.builder().put("foo", "current").put("bar", "baz").build());
+
+        BDDAssertions.then(otelBaggageManager.getAllBaggage()).isEmpty();
+        BDDAssertions.then(otelBaggageManager.getAllBaggage(traceContext))
+            .containsExactly(entry("foo", "from-trace-context"));
+        try (Scope scope = context.makeCurrent()) {
+            Map<String, String> baggage = otelBaggageManager.getAllBaggage(traceContext);
+
+            BDDAssertions.then(baggage)
+                .hasSize(2)
+                .containsEntry("foo", "from-trace-context")
+                .containsEntry("bar", "baz");
+            BDDAssertions.then(otelBaggageManager.getAllBaggage()).hasSize(2).containsEntry("foo", "current");
+            BDDAssertions.thenThrownBy(() -> baggage.put("baz", "qux"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void should_not_allocate_baggage_view_when_there_is_no_baggage() {
+        BDDAssertions.then(otelBaggageManager.getAllBaggage()).isSameAs(Collections.emptyMap());
+        BDDAssertions.then(otelBaggageManager.getAllBaggage(null)).isSameAs(Collections.emptyMap());
+    }
+
+    @Test
+    void should_look_up_baggage_in_single_pass_preferring_exact_match() {
+        CountingBaggage baggage = new CountingBaggage(
+                io.opentelemetry.api.baggage.Baggage.builder().put("Bar", "ignoring-case").put("bar", "exact").build());
+
+        BDDAssertions.then(EntryFinder.find(baggage, "bar")).extracting(Entry::getValue).isEqualTo("exact");
+        BDDAssertions.then(EntryFinder.find(baggage, "BAR")).extracting(Entry::getKey).isEqualTo("Bar");
+        BDDAssertions.then(EntryFinder.find(baggage, "missing")).isNull();
+        BDDAssertions.then(baggage.forEachCalls).isEqualTo(3);
+    }
+
+    @Test
+    void should_build_baggage_field_index_once() {
+        OtelBaggageManager manager = new OtelBaggageManager(new OtelCurrentTraceContext(),
+                Arrays.asList("foo", "Bar"), Collections.emptyList());
+
+        BDDAssertions.then(manager.getBaggageFieldIndex()).isSameAs(manager.getBaggageFieldIndex());
+        BDDAssertions.then(manager.getBaggageFieldIndex().contains("bar")).isTrue();
+    }
+
+    static class CountingBaggage implements io.opentelemetry.api.baggage.Baggage {
+
+        private final io.opentelemetry.api.baggage.Baggage delegate;
+
+        int forEachCalls;
+
+        CountingBaggage(io.opentelemetry.api.baggage.Baggage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int size() {
+            return this.delegate.size();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super BaggageEntry> consumer) {
+            this.forEachCalls++;
+            this.delegate.forEach(consumer);
+        }
+
+        @Override
+        public Map<String, BaggageEntry> asMap() {
+            return this.delegate.asMap();
+        }
+
+        @Override
+        public @Nullable String getEntryValue(String entryKey) {
+            return this.delegate.getEntryValue(entryKey);
+        }
+
+        @Override
+        public BaggageBuilder toBuilder() {
+            return this.delegate.toBuilder();
+        }
+
+    }
+
 }
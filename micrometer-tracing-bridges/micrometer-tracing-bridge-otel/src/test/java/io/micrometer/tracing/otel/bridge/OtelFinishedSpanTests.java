@@ -34,12 +34,14 @@ import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.semconv.NetworkAttributes;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 class OtelFinishedSpanTests {
 
@@ -117,6 +119,41 @@ class OtelFinishedSpanTests {
         then(span.getRemotePort()).isEqualTo(80);
     }
 
+    @Test
+    void should_read_remote_endpoint_set_by_otel_instrumentation() {
+        Attributes attributes = Attributes.builder()
+            .put(NetworkAttributes.NETWORK_PEER_ADDRESS, "10.0.0.1")
+            .put(NetworkAttributes.NETWORK_PEER_PORT, 8080L)
+            .build();
+        FinishedSpan span = OtelFinishedSpan.fromOtel(new CustomSpanData() {
+            @Override
+            public Attributes getAttributes() {
+                return attributes;
+            }
+        });
+
+        then(span.getRemoteIp()).isEqualTo("10.0.0.1");
+        then(span.getRemotePort()).isEqualTo(8080);
+    }
+
+    @Test
+    void should_reuse_tag_views_until_modified() {
+        FinishedSpan span = OtelFinishedSpan.fromOtel(new CustomSpanData());
+        span.setRemoteServiceName("foo");
+
+        Map<String, String> tags = span.getTags();
+        Map<String, Object> typedTags = span.getTypedTags();
+
+        then(span.getTags()).isSameAs(tags).containsEntry("peer.service", "foo");
+        then(span.getTypedTags()).isSameAs(typedTags).containsEntry("peer.service", "foo");
+        thenThrownBy(() -> tags.put("bar", "baz")).isInstanceOf(UnsupportedOperationException.class);
+
+        span.setRemotePort(80);
+
+        then(span.getTags()).isNotSameAs(tags).containsEntry("network.peer.port", "80");
+        then(span.getTypedTags()).isNotSameAs(typedTags).containsEntry("network.peer.port", "80");
+    }
+
     @Test
     void should_set_error() {
         FinishedSpan span = OtelFinishedSpan.fromOtel(new CustomSpanData());
@@ -181,6 +218,56 @@ class OtelFinishedSpanTests {
                     new Link(span3.context(), tags()), new Link(span4.context(), tags()));
     }
 
+    @Test
+    void should_delegate_until_modified_and_reuse_rebuilt_attributes() {
+        CustomSpanData spanData = new CustomSpanData();
+        FinishedSpan span = OtelFinishedSpan.fromOtel(spanData);
+
+        span.setName("bar");
+
+        SpanData otelSpan = OtelFinishedSpan.toOtel(span);
+        then(otelSpan.getAttributes()).isSameAs(spanData.getAttributes());
+        then(otelSpan.getResource()).isSameAs(spanData.getResource());
+        then(otelSpan.getEvents()).isSameAs(spanData.getEvents());
+
+        span.setRemoteServiceName("baz");
+        otelSpan = OtelFinishedSpan.toOtel(span);
+        Attributes attributes = otelSpan.getAttributes();
+
+        then(attributes).isSameAs(otelSpan.getAttributes());
+        then(attributes.size()).isEqualTo(1);
+        then(otelSpan.getTotalAttributeCount()).isEqualTo(1);
+
+        span.setRemotePort(8080);
+        otelSpan = OtelFinishedSpan.toOtel(span);
+
+        then(otelSpan.getAttributes()).isNotSameAs(attributes).matches(a -> a.size() == 2);
+        then(otelSpan.getResource()).isSameAs(spanData.getResource());
+
+        span.setLocalServiceName("qux");
+        otelSpan = OtelFinishedSpan.toOtel(span);
+        Resource resource = otelSpan.getResource();
+
+        then(resource).isSameAs(otelSpan.getResource());
+        then(span.getLocalServiceName()).isEqualTo("qux");
+    }
+
+    @Test
+    void should_not_change_span_data_returned_before_modification() {
+        FinishedSpan span = OtelFinishedSpan.fromOtel(new CustomSpanData());
+        span.setName("bar");
+        SpanData otelSpan = OtelFinishedSpan.toOtel(span);
+
+        span.setName("baz");
+        span.setRemoteServiceName("qux");
+
+        then(otelSpan.getName()).isEqualTo("bar");
+        then(otelSpan.getAttributes().isEmpty()).isTrue();
+        then(span.getName()).isEqualTo("baz");
+        then(span.getRemoteServiceName()).isEqualTo("qux");
+        then(OtelFinishedSpan.toOtel(span).getName()).isEqualTo("baz");
+    }
+
     private Map<String, Object> tags() {
         Map<String, Object> map = new HashMap<>();
         map.put("tag1", "value1");
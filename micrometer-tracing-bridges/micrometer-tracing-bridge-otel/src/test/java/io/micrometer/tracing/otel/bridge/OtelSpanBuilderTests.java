@@ -74,6 +74,18 @@ class OtelSpanBuilderTests {
         then(child.context().parentId()).isEqualTo(parentSpan.context().spanId());
     }
 
+    @Test
+    void should_capture_parent_of_started_spans() {
+        Span parentSpan = tracer.nextSpan().name("parent").start();
+
+        then(tracer.nextSpan(parentSpan).context().parentId()).isEqualTo(parentSpan.context().spanId());
+        then(new OtelSpanBuilder(otelTracer).setNoParent().start().context().parentId()).isNull();
+        try (io.micrometer.tracing.Tracer.SpanInScope ws = tracer.withSpan(parentSpan)) {
+            then(tracer.nextSpan().context().parentId()).isEqualTo(parentSpan.context().spanId());
+            then(new OtelSpanBuilder(otelTracer).start().context().parentId()).isEqualTo(parentSpan.context().spanId());
+        }
+    }
+
     @Test
     void should_set_links() {
         Span.Builder builder = new OtelSpanBuilder(otelTracer).name("foo");
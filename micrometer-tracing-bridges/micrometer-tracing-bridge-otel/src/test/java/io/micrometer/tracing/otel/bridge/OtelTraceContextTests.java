@@ -84,6 +84,23 @@ class OtelTraceContextTests {
 
     }
 
+    @Test
+    void should_expose_ids_as_longs() {
+        try (OpenTelemetrySdk openTelemetrySdk = openTelemetrySdkBuilder.build()) {
+            Tracer otelTracer = tracer(openTelemetrySdk);
+            Span span = otelTracer.spanBuilder("foo").startSpan();
+
+            OtelTraceContext otelTraceContext = new OtelTraceContext(span);
+
+            String traceId = span.getSpanContext().getTraceId();
+            then(otelTraceContext.traceIdHigh()).isEqualTo(Long.parseUnsignedLong(traceId.substring(0, 16), 16));
+            then(otelTraceContext.traceIdLow()).isEqualTo(Long.parseUnsignedLong(traceId.substring(16), 16));
+            then(otelTraceContext.spanIdAsLong())
+                .isEqualTo(Long.parseUnsignedLong(span.getSpanContext().getSpanId(), 16));
+            then(otelTraceContext.parentIdAsLong()).isZero();
+        }
+    }
+
     private static Tracer tracer(OpenTelemetrySdk openTelemetrySdk) {
         return openTelemetrySdk.getTracer("io.micrometer.micrometer-tracing");
     }
@@ -35,8 +35,10 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
 import java.util.*;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static io.opentelemetry.sdk.trace.samplers.Sampler.alwaysOn;
@@ -410,6 +412,78 @@ class OtelTracingApiTests {
         then(tracer.currentSpan()).isNull();
     }
 
+    @Test
+    void should_reuse_wrappers_of_current_span_in_the_same_scope() {
+        Span span = tracer.nextSpan().start();
+
+        try (Tracer.SpanInScope ws = tracer.withSpan(span)) {
+            then(tracer.currentSpan()).isEqualTo(span).isSameAs(tracer.currentSpan());
+            then(otelCurrentTraceContext.context()).isSameAs(otelCurrentTraceContext.context());
+        }
+
+        io.opentelemetry.api.trace.Span otelSpan = otelTracer.spanBuilder("foo").startSpan();
+        try (Scope scope = otelSpan.makeCurrent()) {
+            TraceContext context = otelCurrentTraceContext.context();
+
+            then(context.spanId()).isEqualTo(otelSpan.getSpanContext().getSpanId());
+            then(otelCurrentTraceContext.context()).isSameAs(context);
+            then(tracer.currentSpan()).isSameAs(tracer.currentSpan());
+        }
+    }
+
+    @Test
+    void should_reuse_trace_context_of_span_made_current_through_otel_per_thread() throws Exception {
+        int threads = 4;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    io.opentelemetry.api.trace.Span otelSpan = otelTracer.spanBuilder("foo").startSpan();
+                    String spanId = otelSpan.getSpanContext().getSpanId();
+                    try (Scope scope = otelSpan.makeCurrent()) {
+                        TraceContext first = otelCurrentTraceContext.context();
+                        barrier.await(5, TimeUnit.SECONDS);
+                        for (int j = 0; j < 1000; j++) {
+                            TraceContext context = otelCurrentTraceContext.context();
+                            if (context == null || context != first || !spanId.equals(context.spanId())) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                then(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_reuse_scope_context_when_reopening_scope_of_the_same_context() {
+        Span span = tracer.nextSpan().start();
+
+        Context first;
+        try (CurrentTraceContext.Scope ws = otelCurrentTraceContext.newScope(span.context())) {
+            first = Context.current();
+            try (CurrentTraceContext.Scope ws2 = otelCurrentTraceContext.newScope(span.context())) {
+                then(((OtelCurrentTraceContext.WrappedScope) ws2).scope).isSameAs(Scope.noop());
+            }
+        }
+        try (CurrentTraceContext.Scope ws = otelCurrentTraceContext.newScope(span.context())) {
+            then(Context.current()).isSameAs(first);
+            then(tracer.currentSpan()).isEqualTo(span);
+        }
+
+        then(tracer.currentSpan()).isNull();
+    }
+
     @Test
     void should_set_ok_status_for_span() {
         this.tracer.nextSpan().end();
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.bridge;
+
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class Slf4JCorrelationEventListenerTests {
+
+    static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+    Slf4JCorrelationEventListener listener = new Slf4JCorrelationEventListener(Arrays.asList("tenant", "region"));
+
+    ContextStorage storage = new EventPublishingContextWrapper(listener).apply(ContextStorage.defaultStorage());
+
+    Baggage baggage = Baggage.builder().put("Tenant", "acme").put("region", " ").put("other", "foo").build();
+
+    Context parent = context("b7ad6b7169203331");
+
+    Context child = context("00f067aa0ba902b7");
+
+    @AfterEach
+    void clear() {
+        MDC.clear();
+    }
+
+    @Test
+    void should_put_trace_ids_and_correlation_fields_of_current_context() {
+        try (Scope scope = this.storage.attach(this.parent)) {
+            then(MDC.get("traceId")).isEqualTo(TRACE_ID);
+            then(MDC.get("spanId")).isEqualTo("b7ad6b7169203331");
+            then(MDC.get("tenant")).isEqualTo("acme");
+            then(MDC.get("region")).isNull();
+            then(MDC.get("other")).isNull();
+        }
+
+        then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void should_restore_entries_of_enclosing_scope() {
+        try (Scope parentScope = this.storage.attach(this.parent)) {
+            try (Scope childScope = this.storage.attach(this.child.with(Baggage.empty()))) {
+                then(MDC.get("traceId")).isEqualTo(TRACE_ID);
+                then(MDC.get("spanId")).isEqualTo("00f067aa0ba902b7");
+                then(MDC.get("tenant")).isNull();
+            }
+
+            then(MDC.get("traceId")).isEqualTo(TRACE_ID);
+            then(MDC.get("spanId")).isEqualTo("b7ad6b7169203331");
+            then(MDC.get("tenant")).isEqualTo("acme");
+        }
+
+        then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void should_put_unchanged_entries_again_when_mdc_was_cleared() {
+        try (Scope parentScope = this.storage.attach(this.parent)) {
+            MDC.clear();
+
+            try (Scope childScope = this.storage.attach(this.child)) {
+                then(MDC.get("traceId")).isEqualTo(TRACE_ID);
+                then(MDC.get("spanId")).isEqualTo("00f067aa0ba902b7");
+                then(MDC.get("tenant")).isEqualTo("acme");
+            }
+        }
+    }
+
+    @Test
+    void should_not_remove_entries_that_were_not_put_by_the_listener() {
+        MDC.put("tenant", "from-application");
+
+        try (Scope scope = this.storage.attach(this.child.with(Baggage.empty()))) {
+            then(MDC.get("tenant")).isEqualTo("from-application");
+        }
+
+        then(MDC.get("tenant")).isEqualTo("from-application");
+    }
+
+    @Test
+    void should_react_to_published_events() {
+        this.listener.onEvent(new EventPublishingContextWrapper.ScopeAttachedEvent(this.parent));
+
+        then(MDC.get("spanId")).isEqualTo("b7ad6b7169203331");
+        then(MDC.get("tenant")).isEqualTo("acme");
+
+        this.listener.onEvent(new EventPublishingContextWrapper.ScopeClosedEvent());
+        this.listener.onEvent(new EventPublishingContextWrapper.ScopeRestoredEvent(null));
+
+        then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void should_put_baggage_of_attached_context_only_with_valid_span() {
+        Context withoutSpan = Context.root().with(this.baggage);
+
+        try (Scope scope = this.storage.attach(withoutSpan)) {
+            then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+
+            this.listener.onRestored(withoutSpan);
+
+            then(MDC.get("tenant")).isEqualTo("acme");
+            then(MDC.get("traceId")).isNull();
+        }
+
+        then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void should_remove_entries_on_published_scope_closed_event_without_restored_context() {
+        MDC.put("other", "from-application");
+        this.listener.onAttached(this.parent);
+
+        this.listener.onEvent(new EventPublishingContextWrapper.ScopeClosedEvent());
+
+        then(MDC.getCopyOfContextMap()).containsOnlyKeys("other");
+    }
+
+    @Test
+    void should_remove_entries_when_tracer_clears_current_span() {
+        OtelTracer tracer = new OtelTracer(OpenTelemetry.noop().getTracer("test"), new OtelCurrentTraceContext(),
+                this.listener::onEvent);
+        this.listener.onAttached(this.parent);
+
+        try (Tracer.SpanInScope scope = tracer.withSpan(null)) {
+            then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+        }
+
+        then(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    private Context context(String spanId) {
+        SpanContext spanContext = SpanContext.create(TRACE_ID, spanId, TraceFlags.getSampled(),
+                TraceState.getDefault());
+        return Context.root().with(Span.wrap(spanContext)).with(this.baggage);
+    }
+
+}
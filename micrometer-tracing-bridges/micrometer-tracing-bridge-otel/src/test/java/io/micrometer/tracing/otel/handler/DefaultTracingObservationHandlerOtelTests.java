@@ -30,14 +30,20 @@ import io.micrometer.tracing.otel.bridge.OtelTracer;
 import io.micrometer.tracing.test.simple.SpanAssert;
 import io.micrometer.tracing.test.simple.SpansAssert;
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.extension.trace.propagation.B3Propagator;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -290,6 +296,51 @@ class DefaultTracingObservationHandlerOtelTests {
         then(tracer.currentSpan()).isNull();
     }
 
+    @Test
+    void should_pass_key_values_to_sampler_when_starting_span() {
+        SdkTracerProvider samplingTracerProvider = SdkTracerProvider.builder()
+            .setSampler(new Sampler() {
+                @Override
+                public SamplingResult shouldSample(Context parentContext, String traceId, String name,
+                        SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+                    return "/health".equals(attributes.get(AttributeKey.stringKey("uri"))) ? SamplingResult.drop()
+                            : SamplingResult.recordAndSample();
+                }
+
+                @Override
+                public String getDescription() {
+                    return "uri";
+                }
+            })
+            .addSpanProcessor(SimpleSpanProcessor.create(testSpanProcessor))
+            .build();
+        OtelCurrentTraceContext otelCurrentTraceContext = new OtelCurrentTraceContext();
+        Tracer samplingTracer = new OtelTracer(samplingTracerProvider.get("sampling"), otelCurrentTraceContext,
+                event -> {
+                }, new OtelBaggageManager(otelCurrentTraceContext, Collections.emptyList(), Collections.emptyList()));
+        DefaultTracingObservationHandler samplingHandler = new DefaultTracingObservationHandler(samplingTracer);
+        samplingHandler.setStartSpansWithKeyValues(true);
+        TestObservationRegistry registry = TestObservationRegistry.create();
+        registry.observationConfig().observationHandler(samplingHandler);
+
+        Observation health = Observation.createNotStarted("health", registry)
+            .lowCardinalityKeyValue("uri", "/health")
+            .start();
+        then(getSpanFromObservation(health).isNoop()).isTrue();
+        health.stop();
+
+        Observation orders = Observation.createNotStarted("orders", registry)
+            .lowCardinalityKeyValue("uri", "/orders")
+            .start();
+        then(getSpanFromObservation(orders).isNoop()).isFalse();
+        orders.stop();
+
+        List<SpanData> spans = testSpanProcessor.getFinishedSpanItems();
+        then(spans).hasSize(1);
+        then(spans.get(0).getName()).isEqualTo("orders");
+        then(spans.get(0).getAttributes().get(AttributeKey.stringKey("uri"))).isEqualTo("/orders");
+    }
+
     private SpanData takeOnlySpan() {
         List<SpanData> spans = testSpanProcessor.getFinishedSpanItems();
         then(spans).hasSize(1);
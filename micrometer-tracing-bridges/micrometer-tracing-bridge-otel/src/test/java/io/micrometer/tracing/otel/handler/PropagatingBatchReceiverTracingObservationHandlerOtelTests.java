@@ -0,0 +1,191 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.otel.handler;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.BatchReceiverContext;
+import io.micrometer.tracing.handler.PropagatingBatchReceiverTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class PropagatingBatchReceiverTracingObservationHandlerOtelTests {
+
+    InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+
+    SdkTracerProvider sdkTracerProvider = SdkTracerProvider.builder()
+        .setSampler(io.opentelemetry.sdk.trace.samplers.Sampler.alwaysOn())
+        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+        .build();
+
+    io.opentelemetry.api.trace.Tracer otelTracer = sdkTracerProvider.get("io.micrometer.micrometer-tracing");
+
+    Tracer tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+    }, new OtelBaggageManager(new OtelCurrentTraceContext(), Collections.emptyList(), Collections.emptyList()));
+
+    Propagator propagator = new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()),
+            otelTracer);
+
+    PropagatingBatchReceiverTracingObservationHandler<BatchReceiverContext<?>> handler = new PropagatingBatchReceiverTracingObservationHandler<>(
+            tracer, propagator);
+
+    @AfterEach
+    void close() {
+        sdkTracerProvider.close();
+    }
+
+    @Test
+    void should_create_single_span_linked_to_distinct_producer_contexts() {
+        Span producer1 = tracer.nextSpan().start();
+        Span producer2 = tracer.nextSpan().start();
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(producer1), carrier(producer1),
+                carrier(producer2), new HashMap<>());
+
+        handler.onStart(context);
+        handler.onStop(context);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        then(spans).hasSize(1);
+        SpanData batchSpan = spans.get(0);
+        then(batchSpan.getName()).isEqualTo("batch");
+        then(batchSpan.getLinks()).hasSize(2);
+        then(batchSpan.getLinks().stream().map(link -> link.getSpanContext().getSpanId()))
+            .containsExactlyInAnyOrder(producer1.context().spanId(), producer2.context().spanId());
+        then(context.getRecordSpans()).isEmpty();
+    }
+
+    @Test
+    void should_create_record_spans_when_enabled() {
+        handler.setCreateRecordSpans(true);
+        Span producer = tracer.nextSpan().start();
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(producer), new HashMap<>());
+
+        handler.onStart(context);
+        then(context.getRecordSpans()).hasSize(2);
+        handler.onStop(context);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        then(spans).hasSize(3);
+        SpanData recordSpanWithProducer = spans.get(0);
+        SpanData recordSpanWithoutProducer = spans.get(1);
+        SpanData batchSpan = spans.get(2);
+        then(recordSpanWithProducer.getTraceId()).isEqualTo(producer.context().traceId());
+        then(recordSpanWithProducer.getParentSpanId()).isEqualTo(producer.context().spanId());
+        then(recordSpanWithoutProducer.getParentSpanId()).isEqualTo(batchSpan.getSpanId());
+        then(spans).allSatisfy(span -> then(span.getName()).isEqualTo("batch"));
+    }
+
+    @Test
+    void should_mark_batch_and_record_spans_as_failed_on_error() {
+        handler.setCreateRecordSpans(true);
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(tracer.nextSpan().start()),
+                new HashMap<>());
+
+        handler.onStart(context);
+        context.setError(new IllegalStateException("boom"));
+        handler.onError(context);
+        handler.onStop(context);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        then(spans).hasSize(3)
+            .allSatisfy(span -> then(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR));
+    }
+
+    @Test
+    void should_create_unlinked_span_when_propagator_does_not_extract_trace_contexts() {
+        PropagatingBatchReceiverTracingObservationHandler<BatchReceiverContext<?>> handler = new PropagatingBatchReceiverTracingObservationHandler<>(
+                tracer, new ExtractingOnlySpansPropagator(propagator));
+        handler.setCreateRecordSpans(true);
+        Span producer = tracer.nextSpan().start();
+        BatchReceiverContext<Map<String, String>> context = batchContext(carrier(producer), carrier(producer));
+
+        handler.onStart(context);
+        handler.onStop(context);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        then(spans).hasSize(3);
+        SpanData batchSpan = spans.get(2);
+        then(batchSpan.getLinks()).isEmpty();
+        then(spans.subList(0, 2).stream().map(SpanData::getParentSpanId).collect(Collectors.toList()))
+            .containsOnly(batchSpan.getSpanId());
+    }
+
+    @SafeVarargs
+    private final BatchReceiverContext<Map<String, String>> batchContext(Map<String, String>... carriers) {
+        BatchReceiverContext<Map<String, String>> context = new BatchReceiverContext<>(Map::get);
+        context.setName("batch");
+        context.setCarriers(Arrays.asList(carriers));
+        return context;
+    }
+
+    private Map<String, String> carrier(Span producer) {
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(producer.context(), carrier, Map::put);
+        return carrier;
+    }
+
+    /**
+     * Propagator that relies on the default {@link Propagator#extractContext}.
+     */
+    static class ExtractingOnlySpansPropagator implements Propagator {
+
+        private final Propagator delegate;
+
+        ExtractingOnlySpansPropagator(Propagator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<String> fields() {
+            return this.delegate.fields();
+        }
+
+        @Override
+        public <C> void inject(TraceContext context, @Nullable C carrier, Setter<C> setter) {
+            this.delegate.inject(context, carrier, setter);
+        }
+
+        @Override
+        public <C> Span.Builder extract(@Nullable C carrier, Getter<C> getter) {
+            return this.delegate.extract(carrier, getter);
+        }
+
+    }
+
+}
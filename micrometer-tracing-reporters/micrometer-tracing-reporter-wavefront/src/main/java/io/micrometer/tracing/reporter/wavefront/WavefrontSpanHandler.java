@@ -21,7 +21,6 @@ import com.wavefront.sdk.common.Pair;
 import com.wavefront.sdk.common.WavefrontSender;
 import com.wavefront.sdk.common.application.ApplicationTags;
 import com.wavefront.sdk.entities.tracing.SpanLog;
-import io.micrometer.common.util.StringUtils;
 import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.micrometer.tracing.TraceContext;
@@ -80,20 +79,6 @@ public class WavefrontSpanHandler implements Runnable, Closeable {
 
     private static final String WAVEFRONT_GENERATED_COMPONENT = "wavefront-generated";
 
-    private static final int LONG_BYTES = Long.SIZE / Byte.SIZE;
-
-    private static final int BYTE_BASE16 = 2;
-
-    private static final int LONG_BASE16 = BYTE_BASE16 * LONG_BYTES;
-
-    private static final int TRACE_ID_HEX_SIZE = 2 * LONG_BASE16;
-
-    private static final String ALPHABET = "0123456789abcdef";
-
-    private static final int ASCII_CHARACTERS = 128;
-
-    private static final byte[] DECODING = buildDecodingArray();
-
     private final LinkedBlockingQueue<SpanToSend> spanBuffer;
 
     private final WavefrontSender wavefrontSender;
@@ -175,38 +160,6 @@ public class WavefrontSpanHandler implements Runnable, Closeable {
         this.sendingThread.start();
     }
 
-    private static byte[] buildDecodingArray() {
-        byte[] decoding = new byte[ASCII_CHARACTERS];
-        Arrays.fill(decoding, (byte) -1);
-        for (int i = 0; i < ALPHABET.length(); i++) {
-            char c = ALPHABET.charAt(i);
-            decoding[c] = (byte) i;
-        }
-        return decoding;
-    }
-
-    /**
-     * Returns the {@code long} value whose base16 representation is stored in the first
-     * 16 chars of {@code chars} starting from the {@code offset}.
-     * @param chars the base16 representation of the {@code long}.
-     */
-    private static long longFromBase16String(CharSequence chars) {
-        int offset = 0;
-        return (decodeByte(chars.charAt(offset), chars.charAt(offset + 1)) & 0xFFL) << 56
-                | (decodeByte(chars.charAt(offset + 2), chars.charAt(offset + 3)) & 0xFFL) << 48
-                | (decodeByte(chars.charAt(offset + 4), chars.charAt(offset + 5)) & 0xFFL) << 40
-                | (decodeByte(chars.charAt(offset + 6), chars.charAt(offset + 7)) & 0xFFL) << 32
-                | (decodeByte(chars.charAt(offset + 8), chars.charAt(offset + 9)) & 0xFFL) << 24
-                | (decodeByte(chars.charAt(offset + 10), chars.charAt(offset + 11)) & 0xFFL) << 16
-                | (decodeByte(chars.charAt(offset + 12), chars.charAt(offset + 13)) & 0xFFL) << 8
-                | (decodeByte(chars.charAt(offset + 14), chars.charAt(offset + 15)) & 0xFFL);
-    }
-
-    private static byte decodeByte(char hi, char lo) {
-        int decoded = DECODING[hi] << 4 | DECODING[lo];
-        return (byte) decoded;
-    }
-
     // https://github.com/wavefrontHQ/wavefront-proxy/blob/3dd1fa11711a04de2d9d418e2269f0f9fb464f36/proxy/src/main/java/com/wavefront/agent/listeners/tracing/ZipkinPortUnificationHandler.java#L397-L402
     static List<SpanLog> convertAnnotationsToSpanLogs(FinishedSpan span) {
         return span.getEvents()
@@ -265,35 +218,18 @@ public class WavefrontSpanHandler implements Runnable, Closeable {
         return Collections.unmodifiableList(this.defaultTags);
     }
 
-    private String padLeftWithZeros(String string, int length) {
-        if (string.length() >= length) {
-            return string;
-        }
-        else {
-            StringBuilder sb = new StringBuilder(length);
-            for (int i = string.length(); i < length; i++) {
-                sb.append('0');
-            }
-
-            return sb.append(string).toString();
-        }
-    }
-
     private void send(TraceContext context, FinishedSpan span) {
-        String traceIdString = padLeftWithZeros(context.traceId(), TRACE_ID_HEX_SIZE);
-        String traceIdHigh = traceIdString.substring(0, traceIdString.length() / 2);
-        String traceIdLow = traceIdString.substring(traceIdString.length() / 2);
-        UUID traceId = new UUID(longFromBase16String(traceIdHigh), longFromBase16String(traceIdLow));
-        UUID spanId = new UUID(0L, longFromBase16String(context.spanId()));
+        UUID traceId = new UUID(context.traceIdHigh(), context.traceIdLow());
+        UUID spanId = new UUID(0L, context.spanIdAsLong());
 
         // NOTE: wavefront-opentracing-sdk-java and wavefront-proxy differ, but we prefer
         // the former.
         // https://github.com/wavefrontHQ/wavefront-opentracing-sdk-java/blob/f1f08d8daf7b692b9b61dcd5bc24ca6befa8e710/src/main/java/com/wavefront/opentracing/reporting/WavefrontSpanReporter.java#L187-L190
         // https://github.com/wavefrontHQ/wavefront-proxy/blob/3dd1fa11711a04de2d9d418e2269f0f9fb464f36/proxy/src/main/java/com/wavefront/agent/listeners/tracing/ZipkinPortUnificationHandler.java#L248-L252
         List<UUID> parents = null;
-        String parentId = context.parentId();
-        if (!StringUtils.isEmpty(parentId) && longFromBase16String(parentId) != 0L) {
-            parents = Collections.singletonList(new UUID(0L, longFromBase16String(parentId)));
+        long parentId = context.parentIdAsLong();
+        if (parentId != 0L) {
+            parents = Collections.singletonList(new UUID(0L, parentId));
         }
         List<UUID> followsFrom = null;
 
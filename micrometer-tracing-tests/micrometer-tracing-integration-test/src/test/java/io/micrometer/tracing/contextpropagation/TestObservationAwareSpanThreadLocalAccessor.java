@@ -15,13 +15,10 @@
  */
 package io.micrometer.tracing.contextpropagation;
 
-import io.micrometer.tracing.contextpropagation.ObservationAwareSpanThreadLocalAccessor.SpanAction;
-import java.util.Map;
-
 public class TestObservationAwareSpanThreadLocalAccessor {
 
-    public static Map<Thread, SpanAction> spanActions(ObservationAwareSpanThreadLocalAccessor accessor) {
-        return accessor.spanActions;
+    public static boolean hasSpanAction(ObservationAwareSpanThreadLocalAccessor accessor) {
+        return accessor.spanActions.get() != null;
     }
 
 }
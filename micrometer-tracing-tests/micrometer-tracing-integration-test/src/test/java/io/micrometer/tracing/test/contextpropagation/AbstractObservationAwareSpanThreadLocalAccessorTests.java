@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import reactor.core.publisher.Hooks;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.context.Context;
 
@@ -93,14 +94,29 @@ abstract class AbstractObservationAwareSpanThreadLocalAccessorTests {
 
     @AfterEach
     void close() {
-        executorService.shutdown();
-        threadPoolTaskExecutor.shutdown();
         then(getTracer().currentSpan()).isNull();
         then(observationRegistry.getCurrentObservationScope()).isNull();
+        // span actions are thread confined, check every thread the tests run code on
+        then(TestObservationAwareSpanThreadLocalAccessor.hasSpanAction(accessor)).isFalse();
         Awaitility.await()
             .atMost(2, TimeUnit.SECONDS)
-            .untilAsserted(() -> BDDAssertions.then(TestObservationAwareSpanThreadLocalAccessor.spanActions(accessor))
-                .isEmpty());
+            .untilAsserted(() -> BDDAssertions
+                .then(executorService.submit(() -> TestObservationAwareSpanThreadLocalAccessor.hasSpanAction(accessor))
+                    .get())
+                .isFalse());
+        Awaitility.await()
+            .atMost(2, TimeUnit.SECONDS)
+            .untilAsserted(() -> BDDAssertions.then(hasSpanActionOnThreadPoolTaskExecutor()).isFalse());
+        Awaitility.await()
+            .atMost(2, TimeUnit.SECONDS)
+            .untilAsserted(() -> BDDAssertions.then(hasSpanActionOn(Schedulers.single(), 1)).isFalse());
+        Awaitility.await()
+            .atMost(2, TimeUnit.SECONDS)
+            .untilAsserted(() -> BDDAssertions
+                .then(hasSpanActionOn(Schedulers.parallel(), Schedulers.DEFAULT_POOL_SIZE))
+                .isFalse());
+        executorService.shutdown();
+        threadPoolTaskExecutor.shutdown();
         Awaitility.await()
             .atMost(2, TimeUnit.SECONDS)
             .untilAsserted(() -> BDDAssertions
@@ -112,6 +128,37 @@ abstract class AbstractObservationAwareSpanThreadLocalAccessorTests {
         Hooks.disableAutomaticContextPropagation();
     }
 
+    private boolean hasSpanActionOnThreadPoolTaskExecutor() throws Exception {
+        ThreadPoolExecutor executor;
+        try {
+            executor = threadPoolTaskExecutor.getThreadPoolExecutor();
+        }
+        catch (IllegalStateException ex) {
+            // not initialized, no test code ran on it
+            return false;
+        }
+        // bypasses the task decorator, which would restore the captured thread locals
+        return executor.submit(() -> TestObservationAwareSpanThreadLocalAccessor.hasSpanAction(accessor)).get();
+    }
+
+    private boolean hasSpanActionOn(Scheduler scheduler, int workers) throws Exception {
+        boolean hasSpanAction = false;
+        // workers are created round-robin over the threads of the scheduler
+        for (int i = 0; i < workers; i++) {
+            Scheduler.Worker worker = scheduler.createWorker();
+            try {
+                CompletableFuture<Boolean> result = new CompletableFuture<>();
+                worker.schedule(
+                        () -> result.complete(TestObservationAwareSpanThreadLocalAccessor.hasSpanAction(accessor)));
+                hasSpanAction |= result.get(1, TimeUnit.SECONDS);
+            }
+            finally {
+                worker.dispose();
+            }
+        }
+        return hasSpanAction;
+    }
+
     @Test
     void asyncTracingTestWithObservationAndManualSpans()
             throws ExecutionException, InterruptedException, TimeoutException {
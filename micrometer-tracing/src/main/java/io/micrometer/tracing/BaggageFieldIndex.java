@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precompiled, case-insensitive index of baggage field names. Lookups neither lowercase
+ * nor allocate, so the index can be consulted on hot paths such as opening a scope.
+ *
+ * @since 1.7.0
+ */
+public final class BaggageFieldIndex {
+
+    /**
+     * An index without any fields.
+     */
+    public static final BaggageFieldIndex EMPTY = new BaggageFieldIndex(Collections.emptyList());
+
+    private final List<String> fields;
+
+    private final String[] table;
+
+    private final int mask;
+
+    private BaggageFieldIndex(List<String> fields) {
+        this.fields = fields;
+        int size = 2;
+        while (size < fields.size() * 2) {
+            size <<= 1;
+        }
+        this.table = new String[size];
+        this.mask = size - 1;
+        for (String field : fields) {
+            int slot = hash(field) & this.mask;
+            while (this.table[slot] != null && !this.table[slot].equalsIgnoreCase(field)) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.table[slot] = field;
+        }
+    }
+
+    /**
+     * Creates an index of the given baggage field names.
+     * @param fields baggage field names
+     * @return index of the fields
+     */
+    public static BaggageFieldIndex of(List<String> fields) {
+        if (fields.isEmpty()) {
+            return EMPTY;
+        }
+        return new BaggageFieldIndex(Collections.unmodifiableList(new ArrayList<>(fields)));
+    }
+
+    /**
+     * Checks whether the name is one of the indexed baggage fields, ignoring case.
+     * @param name name to check
+     * @return {@code true} if the name matches one of the fields
+     */
+    public boolean contains(String name) {
+        if (this.fields.isEmpty()) {
+            return false;
+        }
+        int slot = hash(name) & this.mask;
+        String field;
+        while ((field = this.table[slot]) != null) {
+            if (field.equalsIgnoreCase(name)) {
+                return true;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether there are no fields in the index.
+     * @return {@code true} if there are no fields
+     */
+    public boolean isEmpty() {
+        return this.fields.isEmpty();
+    }
+
+    /**
+     * Returns the indexed baggage field names.
+     * @return baggage field names
+     */
+    public List<String> getFields() {
+        return this.fields;
+    }
+
+    // folds case the same way String#equalsIgnoreCase compares characters
+    private static int hash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "BaggageFieldIndex{" + "fields=" + this.fields + '}';
+    }
+
+}
@@ -17,7 +17,9 @@ package io.micrometer.tracing;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
@@ -69,6 +71,12 @@ public interface BaggageManager {
         public BaggageInScope createBaggageInScope(TraceContext traceContext, String name, String value) {
             return BaggageInScope.NOOP;
         }
+
+        @Override
+        public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext,
+                Map<String, String> baggage) {
+            return CurrentTraceContext.Scope.NOOP;
+        }
     };
 
     /**
@@ -145,6 +153,29 @@ public interface BaggageManager {
         return createBaggage(name).makeCurrent(traceContext, value);
     }
 
+    /**
+     * Creates new {@link Baggage} entries for all given names and values and puts them in
+     * scope at once. Closing the returned scope reverts all the entries.
+     * @param traceContext trace context with baggage attached to it
+     * @param baggage baggage names and values
+     * @return scope of all the baggage entries
+     * @since 1.7.0
+     */
+    default CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext, Map<String, String> baggage) {
+        if (baggage.isEmpty()) {
+            return CurrentTraceContext.Scope.NOOP;
+        }
+        Deque<BaggageInScope> scopes = new ArrayDeque<>(baggage.size());
+        for (Map.Entry<String, String> entry : baggage.entrySet()) {
+            scopes.addFirst(createBaggageInScope(traceContext, entry.getKey(), entry.getValue()));
+        }
+        return () -> {
+            for (BaggageInScope scope : scopes) {
+                scope.close();
+            }
+        };
+    }
+
     /**
      * Returns all names of baggage fields.
      * @return baggage fields
@@ -154,4 +185,15 @@ public interface BaggageManager {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns a case-insensitive index of {@link #getBaggageFields() baggage fields}.
+     * Implementations should build the index once and refresh it only when the fields
+     * change.
+     * @return baggage fields index
+     * @since 1.7.0
+     */
+    default BaggageFieldIndex getBaggageFieldIndex() {
+        return BaggageFieldIndex.of(getBaggageFields());
+    }
+
 }
@@ -82,6 +82,33 @@ public class Link {
         return this.traceContext;
     }
 
+    /**
+     * High 64 bits of the trace id of the linked span.
+     * @return high 64 bits of the trace id or {@code 0} for 64 bit trace ids
+     * @since 1.7.0
+     */
+    public long getTraceIdHigh() {
+        return this.traceContext.traceIdHigh();
+    }
+
+    /**
+     * Low 64 bits of the trace id of the linked span.
+     * @return low 64 bits of the trace id
+     * @since 1.7.0
+     */
+    public long getTraceIdLow() {
+        return this.traceContext.traceIdLow();
+    }
+
+    /**
+     * Span id of the linked span as a {@code long}.
+     * @return span id
+     * @since 1.7.0
+     */
+    public long getSpanIdAsLong() {
+        return this.traceContext.spanIdAsLong();
+    }
+
     /**
      * Tags attached to this link.
      * @return tags
@@ -15,6 +15,7 @@
  */
 package io.micrometer.tracing;
 
+import io.micrometer.tracing.internal.EncodingUtils;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -74,6 +75,46 @@ public interface TraceContext {
      */
     @Nullable Boolean sampled();
 
+    /**
+     * High 64 bits of the trace id. Implementations should override this to avoid
+     * decoding {@link #traceId()}.
+     * @return high 64 bits of the trace id or {@code 0} for 64 bit trace ids
+     * @since 1.7.0
+     */
+    default long traceIdHigh() {
+        return EncodingUtils.highLongFromBase16String(traceId());
+    }
+
+    /**
+     * Low 64 bits of the trace id. Implementations should override this to avoid
+     * decoding {@link #traceId()}.
+     * @return low 64 bits of the trace id
+     * @since 1.7.0
+     */
+    default long traceIdLow() {
+        return EncodingUtils.lowLongFromBase16String(traceId());
+    }
+
+    /**
+     * Parent span id as a {@code long}. Implementations should override this to avoid
+     * decoding {@link #parentId()}.
+     * @return parent span id or {@code 0} if one is not set
+     * @since 1.7.0
+     */
+    default long parentIdAsLong() {
+        return EncodingUtils.lowLongFromBase16String(parentId());
+    }
+
+    /**
+     * Span id as a {@code long}. Implementations should override this to avoid decoding
+     * {@link #spanId()}.
+     * @return span id
+     * @since 1.7.0
+     */
+    default long spanIdAsLong() {
+        return EncodingUtils.lowLongFromBase16String(spanId());
+    }
+
     /**
      * Builder for {@link TraceContext}.
      *
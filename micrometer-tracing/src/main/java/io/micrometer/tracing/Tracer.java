@@ -143,6 +143,12 @@ public interface Tracer extends BaggageManager {
         public Baggage createBaggage(String name, String value) {
             return Baggage.NOOP;
         }
+
+        @Override
+        public CurrentTraceContext.Scope createBaggageInScope(TraceContext traceContext,
+                Map<String, String> baggage) {
+            return CurrentTraceContext.Scope.NOOP;
+        }
     };
 
     /**
@@ -20,8 +20,8 @@ import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.micrometer.context.ThreadLocalAccessor;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
-import io.micrometer.tracing.Baggage;
 import io.micrometer.tracing.BaggageInScope;
+import io.micrometer.tracing.CurrentTraceContext;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
 import io.micrometer.tracing.Tracer.SpanInScope;
@@ -29,9 +29,6 @@ import io.micrometer.tracing.handler.TracingObservationHandler;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -92,12 +89,12 @@ public class ObservationAwareBaggageThreadLocalAccessor implements ThreadLocalAc
             // There's a current observation so OTLA hooked in
             // we will now check if the user created spans manually or not
             TracingObservationHandler.TracingContext tracingContext = currentObservation.getContext()
-                .getOrDefault(TracingObservationHandler.TracingContext.class,
-                        new TracingObservationHandler.TracingContext());
+                .get(TracingObservationHandler.TracingContext.class);
+            Span spanFromObservation = tracingContext != null ? tracingContext.getSpan() : null;
             // If there is a span in ThreadLocal and it's the same one as the one from a
             // tracing handler
             // then OTLA did its job and we should back off
-            if (currentSpan != null && !currentSpan.equals(tracingContext.getSpan())) {
+            if (currentSpan != null && !currentSpan.equals(spanFromObservation)) {
                 // User created child spans manually and scoped them
                 // the current span is not the same as the one from observation
                 if (log.isTraceEnabled()) {
@@ -106,9 +103,9 @@ public class ObservationAwareBaggageThreadLocalAccessor implements ThreadLocalAc
                 return currentSpan;
             }
             if (log.isTraceEnabled()) {
-                log.trace("Span created by OTLA, picking one from context [" + tracingContext.getSpan() + "]");
+                log.trace("Span created by OTLA, picking one from context [" + spanFromObservation + "]");
             }
-            return tracingContext.getSpan();
+            return spanFromObservation;
         }
         else if (log.isTraceEnabled()) {
             log.trace("No span created by OTLA, retrieving current span from tracer [" + currentSpan + "]");
@@ -122,56 +119,35 @@ public class ObservationAwareBaggageThreadLocalAccessor implements ThreadLocalAc
         if (log.isTraceEnabled()) {
             log.trace("Baggage to set [" + value + "]. Previous scope [" + previousScope + "]");
         }
-        BaggageAndScope scope = null;
         Map<String, String> storedMap = value.getBaggage();
-        Set<Entry<String, String>> entries = storedMap.entrySet();
         Span span = tracer.currentSpan();
         if (span == null) {
             log.warn("There is no span to which we can attach baggage, will not set baggage");
             return;
         }
-        scope = openScopeForEachBaggageEntry(entries, span, scope);
+        BaggageAndScope scope = openScopeForAllBaggageEntries(storedMap, span);
         baggageInScope.put(Thread.currentThread(), scopeRestoringBaggageAndScope(scope, previousScope));
         if (log.isTraceEnabled()) {
             log.trace("Finished setting value [" + baggageInScope.get(Thread.currentThread()) + "]");
         }
     }
 
-    private BaggageAndScope openScopeForEachBaggageEntry(Set<Entry<String, String>> entries, Span span,
-            @Nullable BaggageAndScope scope) {
-        for (Entry<String, String> entry : entries) {
-            if (log.isTraceEnabled()) {
-                Baggage baggage = tracer.getBaggage(span.context(), entry.getKey());
-                String previousBaggage = baggage != null ? baggage.get() : null;
-                log.trace("Current span [" + span + "], previous baggage [" + previousBaggage + "]");
-            }
-            BaggageInScope baggage = tracer.createBaggageInScope(span.context(), entry.getKey(), entry.getValue());
-            if (log.isTraceEnabled()) {
-                Baggage currentBaggage = tracer.getBaggage(span.context(), entry.getKey());
-                String previousBaggage = currentBaggage != null ? currentBaggage.get() : null;
-                log.trace("New baggage [" + baggage + " ] hashcode [" + baggage.hashCode() + "]. Entry to set ["
-                        + entry.getValue() + "] already stored value [" + previousBaggage + "]");
-            }
-            scope = baggageScopeClosingScope(entry, scope, baggage);
+    private BaggageAndScope openScopeForAllBaggageEntries(Map<String, String> baggage, Span span) {
+        if (log.isTraceEnabled()) {
+            log.trace("Current span [" + span + "], previous baggage [" + tracer.getAllBaggage(span.context()) + "]");
         }
-        return Objects.requireNonNull(scope);
-    }
-
-    private static BaggageAndScope baggageScopeClosingScope(Entry<String, String> entry,
-            @Nullable BaggageAndScope scope, BaggageInScope baggage) {
-        if (scope == null) {
-            return scopeClosingBaggageAndScope(entry, baggage);
+        // A single scope for all entries instead of one scope per entry
+        CurrentTraceContext.Scope scope = tracer.createBaggageInScope(span.context(), baggage);
+        if (log.isTraceEnabled()) {
+            log.trace("New baggage scope [" + scope + "] hashcode [" + scope.hashCode() + "]. Entries to set ["
+                    + baggage + "] already stored values [" + tracer.getAllBaggage(span.context()) + "]");
         }
-        return scopeClosingBaggageAndScope(entry, baggage).andThen(scope);
-    }
-
-    private static BaggageAndScope scopeClosingBaggageAndScope(Entry<String, String> entry, BaggageInScope baggage) {
         return new BaggageAndScope(bs -> {
             if (log.isTraceEnabled()) {
-                log.trace("Closing baggage [" + baggage + "] hashcode [" + baggage.hashCode() + "]");
+                log.trace("Closing baggage scope [" + scope + "] hashcode [" + scope.hashCode() + "]");
             }
-            baggage.close();
-        }, entry);
+            scope.close();
+        }, baggage);
     }
 
     @Override
@@ -251,21 +227,21 @@ public class ObservationAwareBaggageThreadLocalAccessor implements ThreadLocalAc
 
         private final Consumer<@Nullable Object> consumer;
 
-        private final @Nullable Entry<String, String> entry;
+        private final @Nullable Map<String, String> baggage;
 
-        BaggageAndScope(Consumer<@Nullable Object> consumer, @Nullable Entry<String, String> entry) {
+        BaggageAndScope(Consumer<@Nullable Object> consumer, @Nullable Map<String, String> baggage) {
             this.consumer = consumer;
-            this.entry = entry;
+            this.baggage = baggage;
         }
 
         BaggageAndScope(Consumer<@Nullable Object> consumer) {
             this.consumer = consumer;
-            this.entry = null;
+            this.baggage = null;
         }
 
         @Override
         public String toString() {
-            return "BaggageAndScope{" + "consumer=" + consumer + ", entry=" + entry + '}';
+            return "BaggageAndScope{" + "consumer=" + consumer + ", baggage=" + baggage + '}';
         }
 
         @Override
@@ -278,7 +254,7 @@ public class ObservationAwareBaggageThreadLocalAccessor implements ThreadLocalAc
 
         @Override
         public BaggageAndScope andThen(Consumer<? super @Nullable Object> after) {
-            return new BaggageAndScope(Consumer.super.andThen(after), entry);
+            return new BaggageAndScope(Consumer.super.andThen(after), baggage);
         }
 
     }
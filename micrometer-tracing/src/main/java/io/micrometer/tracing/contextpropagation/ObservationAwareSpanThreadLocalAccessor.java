@@ -28,9 +28,7 @@ import io.micrometer.tracing.handler.TracingObservationHandler;
 import org.jspecify.annotations.Nullable;
 
 import java.io.Closeable;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link ThreadLocalAccessor} to put and restore current {@link Span} depending on
@@ -60,7 +58,9 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
     private static final InternalLogger log = InternalLoggerFactory
         .getInstance(ObservationAwareSpanThreadLocalAccessor.class);
 
-    final Map<Thread, SpanAction> spanActions = new ConcurrentHashMap<>();
+    // Thread confined - every hop only touches the current thread's chain of actions
+    // and the entry is removed as soon as the chain is empty
+    final ThreadLocal<@Nullable SpanAction> spanActions = new ThreadLocal<>();
 
     /**
      * Key under which Micrometer Tracing is being registered.
@@ -102,12 +102,12 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
             // There's a current observation so OTLA hooked in
             // we will now check if the user created spans manually or not
             TracingObservationHandler.TracingContext tracingContext = currentObservation.getContext()
-                .getOrDefault(TracingObservationHandler.TracingContext.class,
-                        new TracingObservationHandler.TracingContext());
+                .get(TracingObservationHandler.TracingContext.class);
+            Span spanFromObservation = tracingContext != null ? tracingContext.getSpan() : null;
             // If there is a span in ThreadLocal and it's the same one as the one from a
             // tracing handler
             // then OTLA did its job and we should back off
-            if (currentSpan != null && !currentSpan.equals(tracingContext.getSpan())) {
+            if (currentSpan != null && !currentSpan.equals(spanFromObservation)) {
                 // User created child spans manually and scoped them
                 // the current span is not the same as the one from observation
                 if (log.isTraceEnabled()) {
@@ -131,13 +131,13 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
         if (log.isTraceEnabled()) {
             log.trace("Setting value [" + value + "], current span [" + tracer.currentSpan() + "]");
         }
-        SpanAction spanAction = spanActions.get(Thread.currentThread());
+        SpanAction spanAction = spanActions.get();
         Tracer.SpanInScope scope = this.tracer.withSpan(value);
         if (log.isTraceEnabled()) {
             log.trace("New scope created [" + scope + "], current span [" + value + "]");
         }
         SpanAction newSpanAction = new SpanAction(spanActions, spanAction);
-        spanActions.put(Thread.currentThread(), newSpanAction);
+        spanActions.set(newSpanAction);
         newSpanAction.setScope(scope);
     }
 
@@ -146,7 +146,7 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
         if (log.isTraceEnabled()) {
             log.trace("Setting null value, current span [" + tracer.currentSpan() + "]");
         }
-        SpanAction spanAction = spanActions.get(Thread.currentThread());
+        SpanAction spanAction = spanActions.get();
         if (spanAction == null) {
             if (log.isTraceEnabled()) {
                 log.trace("No action to perform");
@@ -165,7 +165,7 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
         if (log.isTraceEnabled()) {
             log.trace("Restoring previous value [" + previousValue + "]");
         }
-        SpanAction spanAction = spanActions.get(Thread.currentThread());
+        SpanAction spanAction = spanActions.get();
         if (spanAction == null) {
             if (log.isTraceEnabled()) {
                 log.trace("No action to perform");
@@ -188,7 +188,7 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
         if (log.isTraceEnabled()) {
             log.trace("Restoring to empty span scope");
         }
-        SpanAction spanAction = spanActions.get(Thread.currentThread());
+        SpanAction spanAction = spanActions.get();
         if (spanAction != null) {
             spanAction.close();
         }
@@ -201,11 +201,11 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
 
         final @Nullable SpanAction previous;
 
-        final Map<Thread, SpanAction> todo;
+        final ThreadLocal<@Nullable SpanAction> todo;
 
         @Nullable AutoCloseable scope;
 
-        SpanAction(Map<Thread, SpanAction> spanActions, @Nullable SpanAction previous) {
+        SpanAction(ThreadLocal<@Nullable SpanAction> spanActions, @Nullable SpanAction previous) {
             this.previous = previous;
             this.todo = spanActions;
         }
@@ -225,10 +225,10 @@ public class ObservationAwareSpanThreadLocalAccessor implements ThreadLocalAcces
                 }
             }
             if (this.previous != null) {
-                this.todo.put(Thread.currentThread(), this.previous);
+                this.todo.set(this.previous);
             }
             else {
-                this.todo.remove(Thread.currentThread());
+                this.todo.remove();
             }
         }
 
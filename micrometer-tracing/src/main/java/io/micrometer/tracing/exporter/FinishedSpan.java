@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 import io.micrometer.tracing.Link;
 import io.micrometer.tracing.Span;
+import io.micrometer.tracing.internal.EncodingUtils;
 
 /**
  * This API is inspired by OpenZipkin Brave (from {code MutableSpan}).
@@ -134,6 +135,22 @@ public interface FinishedSpan {
      */
     @Nullable String getParentId();
 
+    /**
+     * @return span's span id as a {@code long}
+     * @since 1.7.0
+     */
+    default long getSpanIdAsLong() {
+        return EncodingUtils.lowLongFromBase16String(getSpanId());
+    }
+
+    /**
+     * @return span's parent id as a {@code long} or {@code 0} if not set
+     * @since 1.7.0
+     */
+    default long getParentIdAsLong() {
+        return EncodingUtils.lowLongFromBase16String(getParentId());
+    }
+
     /**
      * @return span's remote ip
      */
@@ -170,6 +187,22 @@ public interface FinishedSpan {
      */
     String getTraceId();
 
+    /**
+     * @return high 64 bits of span's trace id or {@code 0} for 64 bit trace ids
+     * @since 1.7.0
+     */
+    default long getTraceIdHigh() {
+        return EncodingUtils.highLongFromBase16String(getTraceId());
+    }
+
+    /**
+     * @return low 64 bits of span's trace id
+     * @since 1.7.0
+     */
+    default long getTraceIdLow() {
+        return EncodingUtils.lowLongFromBase16String(getTraceId());
+    }
+
     /**
      * @return corresponding error or {@code null} if one was not thrown
      */
@@ -16,32 +16,45 @@
 package io.micrometer.tracing.exporter;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import io.micrometer.common.util.StringUtils;
 import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 
 /**
- * {@link SpanExportingPredicate} that ignores spans via names.
+ * {@link SpanExportingPredicate} that ignores spans via names. The name patterns are
+ * compiled once, when the predicate is created. Patterns without regex metacharacters
+ * are matched as exact names and patterns ending with {@code .*} as name prefixes;
+ * only the remaining ones are evaluated as regular expressions. Since span names are
+ * low-cardinality, the verdict for each name is cached.
  *
  * @author Marcin Grzejszczak
  * @since 1.0.0
  */
 public class SpanIgnoringSpanExportingPredicate implements SpanExportingPredicate {
 
-    static final Map<String, Pattern> cache = new ConcurrentHashMap<>();
+    static final int MAX_CACHE_SIZE = 1024;
 
     private static final InternalLogger log = InternalLoggerFactory
         .getInstance(SpanIgnoringSpanExportingPredicate.class);
 
-    private final List<String> spanNamePatternsToSkip;
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()<>*+-=!?^$|";
 
-    private final List<String> additionalSpanNamePatternsToIgnore;
+    private static final String ANY_SUFFIX = ".*";
+
+    private final Set<String> namesToIgnore = new HashSet<>();
+
+    private final List<String> namePrefixesToIgnore = new ArrayList<>();
+
+    private final List<Pattern> namePatternsToIgnore = new ArrayList<>();
+
+    private final Map<String, Boolean> verdicts = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance of {@link SpanIgnoringSpanExportingPredicate}.
@@ -50,27 +63,49 @@ public class SpanIgnoringSpanExportingPredicate implements SpanExportingPredicat
      */
     public SpanIgnoringSpanExportingPredicate(List<String> spanNamePatternsToSkip,
             List<String> additionalSpanNamePatternsToIgnore) {
-        this.spanNamePatternsToSkip = spanNamePatternsToSkip;
-        this.additionalSpanNamePatternsToIgnore = additionalSpanNamePatternsToIgnore;
+        compile(spanNamePatternsToSkip);
+        compile(additionalSpanNamePatternsToIgnore);
     }
 
-    private List<Pattern> spanNamesToIgnore() {
-        return spanNames().stream()
-            .map(regex -> cache.computeIfAbsent(regex, Pattern::compile))
-            .collect(Collectors.toList());
+    private void compile(List<String> regexes) {
+        for (String regex : regexes) {
+            if (isLiteral(regex)) {
+                this.namesToIgnore.add(regex);
+            }
+            else if (regex.endsWith(ANY_SUFFIX) && isLiteral(regex.substring(0, regex.length() - 2))) {
+                this.namePrefixesToIgnore.add(regex.substring(0, regex.length() - 2));
+            }
+            else {
+                this.namePatternsToIgnore.add(Pattern.compile(regex));
+            }
+        }
     }
 
-    private List<String> spanNames() {
-        List<String> spanNamesToIgnore = new ArrayList<>(this.spanNamePatternsToSkip);
-        spanNamesToIgnore.addAll(this.additionalSpanNamePatternsToIgnore);
-        return spanNamesToIgnore;
+    private static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean isExportable(FinishedSpan span) {
-        List<Pattern> spanNamesToIgnore = spanNamesToIgnore();
         String name = span.getName();
-        if (StringUtils.isNotEmpty(name) && spanNamesToIgnore.stream().anyMatch(p -> p.matcher(name).matches())) {
+        if (StringUtils.isEmpty(name)) {
+            return true;
+        }
+        Boolean ignored = this.verdicts.get(name);
+        if (ignored == null) {
+            ignored = shouldIgnore(name);
+            if (this.verdicts.size() >= MAX_CACHE_SIZE) {
+                // span names are not as repetitive as expected, start over
+                this.verdicts.clear();
+            }
+            this.verdicts.put(name, ignored);
+        }
+        if (ignored) {
             if (log.isDebugEnabled()) {
                 log.debug("Will ignore a span with name [" + name + "]");
             }
@@ -79,4 +114,36 @@ public class SpanIgnoringSpanExportingPredicate implements SpanExportingPredicat
         return true;
     }
 
+    private boolean shouldIgnore(String name) {
+        if (this.namesToIgnore.contains(name)) {
+            return true;
+        }
+        for (String prefix : this.namePrefixesToIgnore) {
+            // . does not match line terminators
+            if (name.startsWith(prefix) && !hasLineTerminator(name, prefix.length())) {
+                return true;
+            }
+        }
+        for (Pattern pattern : this.namePatternsToIgnore) {
+            if (pattern.matcher(name).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasLineTerminator(String name, int from) {
+        for (int i = from; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int cacheSize() {
+        return this.verdicts.size();
+    }
+
 }
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.handler;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.transport.Kind;
+import io.micrometer.observation.transport.Propagator;
+import io.micrometer.tracing.Span;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Context used when a batch of messages was received at once - e.g. records of a single
+ * Kafka poll. Each carrier of the batch holds the propagation fields of one message.
+ *
+ * @param <C> type of the carrier object
+ * @since 1.7.0
+ * @see PropagatingBatchReceiverTracingObservationHandler
+ */
+public class BatchReceiverContext<C> extends Observation.Context {
+
+    private final Propagator.Getter<C> getter;
+
+    private final Kind kind;
+
+    private List<C> carriers = Collections.emptyList();
+
+    private List<Span> recordSpans = Collections.emptyList();
+
+    private @Nullable String remoteServiceName;
+
+    private @Nullable String remoteServiceAddress;
+
+    /**
+     * Creates a new instance of {@link BatchReceiverContext}.
+     * @param getter propagator getter
+     * @param kind kind
+     */
+    public BatchReceiverContext(Propagator.Getter<C> getter, Kind kind) {
+        this.getter = getter;
+        this.kind = kind;
+    }
+
+    /**
+     * Creates a new instance of a {@link Kind#CONSUMER} {@link BatchReceiverContext}.
+     * @param getter propagator getter
+     */
+    public BatchReceiverContext(Propagator.Getter<C> getter) {
+        this(getter, Kind.CONSUMER);
+    }
+
+    /**
+     * Returns the carriers of all messages in the batch.
+     * @return carriers
+     */
+    public List<C> getCarriers() {
+        return this.carriers;
+    }
+
+    /**
+     * Sets the carriers of all messages in the batch.
+     * @param carriers carriers
+     */
+    public void setCarriers(Collection<? extends C> carriers) {
+        this.carriers = new ArrayList<>(carriers);
+    }
+
+    /**
+     * Returns the per message spans, in the order of the carriers. Empty unless the
+     * handler was configured to create them.
+     * @return per message spans
+     */
+    public List<Span> getRecordSpans() {
+        return this.recordSpans;
+    }
+
+    void setRecordSpans(List<Span> recordSpans) {
+        this.recordSpans = recordSpans;
+    }
+
+    /**
+     * Returns the propagator getter.
+     * @return propagator getter
+     */
+    public Propagator.Getter<C> getGetter() {
+        return this.getter;
+    }
+
+    /**
+     * Returns the kind.
+     * @return kind
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the remote service name.
+     * @return remote service name
+     */
+    public @Nullable String getRemoteServiceName() {
+        return this.remoteServiceName;
+    }
+
+    /**
+     * Sets the remote service name.
+     * @param remoteServiceName remote service name
+     */
+    public void setRemoteServiceName(@Nullable String remoteServiceName) {
+        this.remoteServiceName = remoteServiceName;
+    }
+
+    /**
+     * Returns the remote service address.
+     * @return remote service address
+     */
+    public @Nullable String getRemoteServiceAddress() {
+        return this.remoteServiceAddress;
+    }
+
+    /**
+     * Sets the remote service address.
+     * @param remoteServiceAddress remote service address
+     */
+    public void setRemoteServiceAddress(@Nullable String remoteServiceAddress) {
+        this.remoteServiceAddress = remoteServiceAddress;
+    }
+
+}
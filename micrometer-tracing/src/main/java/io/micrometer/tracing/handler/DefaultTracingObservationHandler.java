@@ -15,9 +15,12 @@
  */
 package io.micrometer.tracing.handler;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.util.StringUtils;
 import io.micrometer.observation.Observation;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
+import org.jspecify.annotations.Nullable;
 
 /**
  * TracingRecordingListener that uses the Tracing API to record events.
@@ -29,6 +32,10 @@ public class DefaultTracingObservationHandler implements TracingObservationHandl
 
     private final Tracer tracer;
 
+    private final NoopSpanTagging noopSpanTagging = new NoopSpanTagging();
+
+    private boolean startSpansWithKeyValues;
+
     /**
      * Creates a new instance of {@link DefaultTracingObservationHandler}.
      * @param tracer the tracer to use to record events
@@ -40,6 +47,10 @@ public class DefaultTracingObservationHandler implements TracingObservationHandl
     @Override
     public void onStart(Observation.Context context) {
         Span parentSpan = getParentSpan(context);
+        if (this.startSpansWithKeyValues) {
+            getTracingContext(context).setSpan(startSpanWithKeyValues(context, parentSpan));
+            return;
+        }
         Span childSpan = parentSpan != null ? getTracer().nextSpan(parentSpan) : getTracer().nextSpan();
         if (childSpan != null) {
             childSpan.start();
@@ -47,14 +58,63 @@ public class DefaultTracingObservationHandler implements TracingObservationHandl
         }
     }
 
+    private Span startSpanWithKeyValues(Observation.Context context, @Nullable Span parentSpan) {
+        Span.Builder builder = getTracer().spanBuilder();
+        if (parentSpan != null) {
+            builder.setParent(parentSpan.context());
+        }
+        if (context.getName() != null || StringUtils.isNotBlank(context.getContextualName())) {
+            builder.name(getSpanName(context));
+        }
+        for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+            // errors are only known when the observation stops
+            if (!keyValue.getKey().equalsIgnoreCase("ERROR")) {
+                builder.tag(keyValue.getKey(), keyValue.getValue());
+            }
+        }
+        return builder.start();
+    }
+
     @Override
     public void onStop(Observation.Context context) {
         Span span = getRequiredSpan(context);
-        span.name(getSpanName(context));
-        tagSpan(context, span);
+        if (shouldTagSpan(context, span)) {
+            span.name(getSpanName(context));
+            tagSpan(context, span);
+        }
         endSpan(context, span);
     }
 
+    /**
+     * Sets whether noop spans should be named, tagged and customized too, see
+     * {@link #shouldTagSpan}. Defaults to {@code false}.
+     * @param tagNoopSpans {@code true} to process noop spans the same way as recorded
+     * spans
+     * @since 1.7.0
+     */
+    public void setTagNoopSpans(boolean tagNoopSpans) {
+        this.noopSpanTagging.setTagNoopSpans(tagNoopSpans);
+    }
+
+    /**
+     * Sets whether spans should be started through a {@link Span.Builder} that already
+     * carries the span name and the low cardinality key values of the observation. This
+     * allows samplers (e.g. Brave's {@code SamplerFunction} or OpenTelemetry's
+     * {@code Sampler}) to make a decision based on them, before any recording happens.
+     * Defaults to {@code false}.
+     * @param startSpansWithKeyValues {@code true} to pass the name and low cardinality
+     * key values to the span builder
+     * @since 1.7.0
+     */
+    public void setStartSpansWithKeyValues(boolean startSpansWithKeyValues) {
+        this.startSpansWithKeyValues = startSpansWithKeyValues;
+    }
+
+    @Override
+    public boolean shouldTagSpan(Observation.Context context, Span span) {
+        return this.noopSpanTagging.shouldTagSpan(span);
+    }
+
     @Override
     public Tracer getTracer() {
         return this.tracer;
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.handler;
+
+import io.micrometer.tracing.Span;
+
+/**
+ * Policy of the tracing handlers for naming, tagging and customizing noop spans (e.g.
+ * spans of traces that were not sampled) when the observation stops. By default this
+ * work is skipped for noop spans, since they won't be reported.
+ *
+ * @see TracingObservationHandler#shouldTagSpan
+ */
+final class NoopSpanTagging {
+
+    private boolean tagNoopSpans;
+
+    void setTagNoopSpans(boolean tagNoopSpans) {
+        this.tagNoopSpans = tagNoopSpans;
+    }
+
+    boolean shouldTagSpan(Span span) {
+        return this.tagNoopSpans || !span.isNoop();
+    }
+
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.handler;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.internal.HostAndPort;
+import io.micrometer.tracing.propagation.Propagator;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link TracingObservationHandler} called when a batch of messages was received. The
+ * trace contexts of all carriers are extracted in a single pass and a single span is
+ * created for the whole batch, linked to every distinct producer context. Optionally,
+ * a span per message can be created as well, continuing the trace of that message.
+ * <p>
+ * The trace contexts are extracted through {@link Propagator#extractContext}, which the
+ * Brave and OpenTelemetry propagators implement. With a propagator that doesn't, no trace
+ * context is found: the batch span is created without links and the message spans are
+ * children of the batch span.
+ *
+ * @param <T> type of batch receiver context
+ * @since 1.7.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PropagatingBatchReceiverTracingObservationHandler<T extends BatchReceiverContext>
+        implements TracingObservationHandler<T> {
+
+    private final Tracer tracer;
+
+    private final Propagator propagator;
+
+    private boolean createRecordSpans;
+
+    private final NoopSpanTagging noopSpanTagging = new NoopSpanTagging();
+
+    /**
+     * Creates a new instance of {@link PropagatingBatchReceiverTracingObservationHandler}.
+     * @param tracer the tracer to use to record events
+     * @param propagator the mechanism to propagate tracing information from the carriers
+     */
+    public PropagatingBatchReceiverTracingObservationHandler(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public void onStart(T context) {
+        io.micrometer.observation.transport.Propagator.Getter<Object> getter = context.getGetter();
+        Propagator.Getter<Object> carrierGetter = new Propagator.Getter<Object>() {
+            @Override
+            public @Nullable String get(Object carrier, String key) {
+                return getter.get(carrier, key);
+            }
+
+            @Override
+            public Iterable<String> getAll(Object carrier, String key) {
+                return getter.getAll(carrier, key);
+            }
+        };
+        List<Object> carriers = context.getCarriers();
+        List<@Nullable TraceContext> recordContexts = new ArrayList<>(carriers.size());
+        Set<TraceContext> producerContexts = new LinkedHashSet<>();
+        for (Object carrier : carriers) {
+            TraceContext traceContext = this.propagator.extractContext(carrier, carrierGetter);
+            recordContexts.add(traceContext);
+            if (traceContext != null) {
+                producerContexts.add(traceContext);
+            }
+        }
+        Span batchSpan = customizeBatchSpan(context, batchSpanBuilder(context, producerContexts)).start();
+        getTracingContext(context).setSpan(batchSpan);
+        if (this.createRecordSpans) {
+            context.setRecordSpans(startRecordSpans(context, batchSpan, recordContexts));
+        }
+    }
+
+    private Span.Builder batchSpanBuilder(T context, Set<TraceContext> producerContexts) {
+        Span.Builder builder = getTracer().spanBuilder().kind(Span.Kind.valueOf(context.getKind().name()));
+        Span parentSpan = getParentSpan(context);
+        if (parentSpan != null) {
+            builder = builder.setParent(parentSpan.context());
+        }
+        for (TraceContext producerContext : producerContexts) {
+            builder = builder.addLink(new Link(producerContext));
+        }
+        return remoteService(context, builder);
+    }
+
+    private List<Span> startRecordSpans(T context, Span batchSpan, List<@Nullable TraceContext> recordContexts) {
+        List<Span> recordSpans = new ArrayList<>(recordContexts.size());
+        for (TraceContext recordContext : recordContexts) {
+            Span.Builder builder = getTracer().spanBuilder()
+                .kind(Span.Kind.valueOf(context.getKind().name()))
+                .setParent(recordContext != null ? recordContext : batchSpan.context());
+            recordSpans.add(remoteService(context, builder).start());
+        }
+        return recordSpans;
+    }
+
+    private Span.Builder remoteService(T context, Span.Builder builder) {
+        if (context.getRemoteServiceName() != null) {
+            builder = builder.remoteServiceName(context.getRemoteServiceName());
+        }
+        String remoteServiceAddress = context.getRemoteServiceAddress();
+        if (remoteServiceAddress != null) {
+            HostAndPort hostAndPort = HostAndPort.parse(remoteServiceAddress);
+            if (hostAndPort != null) {
+                builder = builder.remoteIpAndPort(hostAndPort.getHost(), hostAndPort.getPort());
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Customizes the batch span before it's started (e.g. you can add tags via
+     * {@link Span.Builder#tag(String, String)}).
+     * @param context context
+     * @param builder span builder
+     * @return span builder
+     */
+    public Span.Builder customizeBatchSpan(T context, Span.Builder builder) {
+        return builder;
+    }
+
+    @Override
+    public void onError(T context) {
+        Throwable error = context.getError();
+        if (error != null) {
+            getRequiredSpan(context).error(error);
+            List<Span> recordSpans = context.getRecordSpans();
+            for (Span recordSpan : recordSpans) {
+                recordSpan.error(error);
+            }
+        }
+    }
+
+    @Override
+    public void onStop(T context) {
+        Span span = getRequiredSpan(context);
+        List<Span> recordSpans = context.getRecordSpans();
+        if (shouldTagSpan(context, span)) {
+            tagSpan(context, span);
+            String name = context.getContextualName() != null ? context.getContextualName() : context.getName();
+            if (name != null) {
+                span.name(name);
+                for (Span recordSpan : recordSpans) {
+                    recordSpan.name(name);
+                }
+            }
+        }
+        for (Span recordSpan : recordSpans) {
+            recordSpan.end();
+        }
+        endSpan(context, span);
+    }
+
+    /**
+     * Sets whether a span per message should be created in addition to the batch span.
+     * Each message span continues the trace of its message, or is a child of the batch
+     * span when the message carries no trace context. The spans are available via
+     * {@link BatchReceiverContext#getRecordSpans()}. Defaults to {@code false}.
+     * @param createRecordSpans {@code true} to create a span per message
+     */
+    public void setCreateRecordSpans(boolean createRecordSpans) {
+        this.createRecordSpans = createRecordSpans;
+    }
+
+    /**
+     * Sets whether noop spans should be named, tagged and customized too, see
+     * {@link #shouldTagSpan}. Defaults to {@code false}.
+     * @param tagNoopSpans {@code true} to process noop spans the same way as recorded
+     * spans
+     */
+    public void setTagNoopSpans(boolean tagNoopSpans) {
+        this.noopSpanTagging.setTagNoopSpans(tagNoopSpans);
+    }
+
+    @Override
+    public boolean shouldTagSpan(T context, Span span) {
+        return this.noopSpanTagging.shouldTagSpan(span);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof BatchReceiverContext;
+    }
+
+    @Override
+    public Tracer getTracer() {
+        return this.tracer;
+    }
+
+}
@@ -15,17 +15,14 @@
  */
 package io.micrometer.tracing.handler;
 
-import io.micrometer.common.util.internal.logging.InternalLogger;
-import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.transport.ReceiverContext;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.internal.HostAndPort;
 import io.micrometer.tracing.propagation.Propagator;
 import org.jspecify.annotations.Nullable;
 
-import java.net.URI;
-
 /**
  * A {@link TracingObservationHandler} called when receiving occurred - e.g. of messages
  * or http requests.
@@ -37,13 +34,12 @@ import java.net.URI;
 public class PropagatingReceiverTracingObservationHandler<T extends ReceiverContext>
         implements TracingObservationHandler<T> {
 
-    private static final InternalLogger log = InternalLoggerFactory
-        .getInstance(PropagatingReceiverTracingObservationHandler.class);
-
     private final Tracer tracer;
 
     private final Propagator propagator;
 
+    private final NoopSpanTagging noopSpanTagging = new NoopSpanTagging();
+
     /**
      * Creates a new instance of {@link PropagatingReceiverTracingObservationHandler}.
      * @param tracer the tracer to use to record events
@@ -72,14 +68,11 @@ public class PropagatingReceiverTracingObservationHandler<T extends ReceiverCont
         if (context.getRemoteServiceName() != null) {
             extractedSpan.remoteServiceName(context.getRemoteServiceName());
         }
-        if (context.getRemoteServiceAddress() != null) {
-            try {
-                URI uri = URI.create(context.getRemoteServiceAddress());
-                extractedSpan = extractedSpan.remoteIpAndPort(uri.getHost(), uri.getPort());
-            }
-            catch (Exception ex) {
-                log.warn("Exception [{}], occurred while trying to parse the uri [{}] to host and port.", ex,
-                        context.getRemoteServiceAddress());
+        String remoteServiceAddress = context.getRemoteServiceAddress();
+        if (remoteServiceAddress != null) {
+            HostAndPort hostAndPort = HostAndPort.parse(remoteServiceAddress);
+            if (hostAndPort != null) {
+                extractedSpan = extractedSpan.remoteIpAndPort(hostAndPort.getHost(), hostAndPort.getPort());
             }
         }
         getTracingContext(context).setSpan(customizeExtractedSpan(context, extractedSpan).start());
@@ -106,15 +99,33 @@ public class PropagatingReceiverTracingObservationHandler<T extends ReceiverCont
     @Override
     public void onStop(T context) {
         Span span = getRequiredSpan(context);
-        tagSpan(context, span);
-        customizeReceiverSpan(context, span);
-        String name = context.getContextualName() != null ? context.getContextualName() : context.getName();
-        if (name != null) {
-            span.name(name);
+        if (shouldTagSpan(context, span)) {
+            tagSpan(context, span);
+            customizeReceiverSpan(context, span);
+            String name = context.getContextualName() != null ? context.getContextualName() : context.getName();
+            if (name != null) {
+                span.name(name);
+            }
         }
         endSpan(context, span);
     }
 
+    /**
+     * Sets whether noop spans should be named, tagged and customized too, see
+     * {@link #shouldTagSpan}. Defaults to {@code false}.
+     * @param tagNoopSpans {@code true} to process noop spans the same way as recorded
+     * spans
+     * @since 1.7.0
+     */
+    public void setTagNoopSpans(boolean tagNoopSpans) {
+        this.noopSpanTagging.setTagNoopSpans(tagNoopSpans);
+    }
+
+    @Override
+    public boolean shouldTagSpan(T context, Span span) {
+        return this.noopSpanTagging.shouldTagSpan(span);
+    }
+
     /**
      * Allows to customize the receiver span before reporting it.
      * @param context context
@@ -18,6 +18,7 @@ package io.micrometer.tracing.handler;
 import io.micrometer.common.KeyValue;
 import org.jspecify.annotations.Nullable;
 import io.micrometer.observation.Observation.ContextView;
+import io.micrometer.tracing.BaggageFieldIndex;
 import io.micrometer.tracing.BaggageInScope;
 import io.micrometer.tracing.CurrentTraceContext;
 import io.micrometer.tracing.CurrentTraceContext.Scope;
@@ -78,50 +79,37 @@ class RevertingScope implements CurrentTraceContext.Scope {
         if (context == null) {
             return revertingScope;
         }
-        Collection<KeyValue> baggageKeyValues = matchingBaggageKeyValues(tracer, context);
-        if (baggageKeyValues.isEmpty()) {
+        BaggageFieldIndex baggageFieldIndex = tracer.getBaggageFieldIndex();
+        if (baggageFieldIndex.isEmpty()) {
             return revertingScope;
         }
-        ArrayDeque<BaggageInScope> scopes = startBaggageScopes(tracer, newContext, baggageKeyValues);
+        ArrayDeque<BaggageInScope> scopes = null;
+        for (KeyValue keyValue : context.getAllKeyValues()) {
+            if (baggageFieldIndex.contains(keyValue.getKey())) {
+                if (scopes == null) {
+                    scopes = new ArrayDeque<>();
+                }
+                scopes.addFirst(startBaggageScope(tracer, newContext, keyValue));
+            }
+        }
+        if (scopes == null) {
+            return revertingScope;
+        }
+        ArrayDeque<BaggageInScope> baggageScopes = scopes;
         return new RevertingScope(tracingContext, () -> {
-            for (BaggageInScope scope : scopes) {
+            for (BaggageInScope scope : baggageScopes) {
                 scope.close();
             }
             revertingScope.close();
         }, previousScopeOnThisObservation);
     }
 
-    private static ArrayDeque<BaggageInScope> startBaggageScopes(Tracer tracer, @Nullable TraceContext newContext,
-            Collection<KeyValue> baggageKeyValues) {
-        ArrayDeque<BaggageInScope> scopes = new ArrayDeque<>();
-        for (KeyValue keyValue : baggageKeyValues) {
-            if (newContext != null) {
-                scopes.addFirst(tracer.createBaggageInScope(newContext, keyValue.getKey(), keyValue.getValue()));
-            }
-            else {
-                scopes.addFirst(tracer.createBaggageInScope(keyValue.getKey(), keyValue.getValue()));
-            }
-        }
-        return scopes;
-    }
-
-    private static Collection<KeyValue> matchingBaggageKeyValues(Tracer tracer, ContextView context) {
-        if (tracer.getBaggageFields().isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        Set<String> lowerCaseRemoteFields = new HashSet<>();
-        for (String remoteField : tracer.getBaggageFields()) {
-            lowerCaseRemoteFields.add(remoteField.toLowerCase());
-        }
-
-        Collection<KeyValue> baggageKeyValues = new ArrayList<>();
-        for (KeyValue keyValue : context.getAllKeyValues()) {
-            if (lowerCaseRemoteFields.contains(keyValue.getKey().toLowerCase())) {
-                baggageKeyValues.add(keyValue);
-            }
+    private static BaggageInScope startBaggageScope(Tracer tracer, @Nullable TraceContext newContext,
+            KeyValue keyValue) {
+        if (newContext != null) {
+            return tracer.createBaggageInScope(newContext, keyValue.getKey(), keyValue.getValue());
         }
-        return baggageKeyValues;
+        return tracer.createBaggageInScope(keyValue.getKey(), keyValue.getValue());
     }
 
 }
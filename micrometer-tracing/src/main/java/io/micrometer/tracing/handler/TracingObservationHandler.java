@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Marker interface for tracing handlers.
@@ -58,6 +59,20 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
         }
     }
 
+    /**
+     * Whether the span should be named, tagged and customized when the observation
+     * stops. By default this work is skipped for noop spans (e.g. spans of traces that
+     * were not sampled) since they won't be reported. Override this method if you need
+     * that data even on noop spans, e.g. because your {@code SpanFilter} depends on it.
+     * @param context handler context
+     * @param span span to check
+     * @return {@code true} to name, tag and customize the span
+     * @since 1.7.0
+     */
+    default boolean shouldTagSpan(T context, Span span) {
+        return !span.isNoop();
+    }
+
     /**
      * Get the span name based on the given context.
      * @param context handler context
@@ -184,12 +199,18 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
     }
 
     /**
-     * Get the current tracing context and updates the context if it's missing.
+     * Get the current tracing context and updates the context if it's missing. Once the
+     * tracing context was created (typically in {@code onStart}) it's resolved with a
+     * plain lookup, without going through
+     * {@link Observation.Context#computeIfAbsent(Object, java.util.function.Function)}.
      * @param context a {@link Observation.Context}
      * @return tracing context
      */
     default TracingContext getTracingContext(T context) {
-        TracingContext tracingContext = context.computeIfAbsent(TracingContext.class, clazz -> new TracingContext());
+        TracingContext tracingContext = context.get(TracingContext.class);
+        if (tracingContext == null) {
+            tracingContext = context.computeIfAbsent(TracingContext.class, clazz -> new TracingContext());
+        }
         tracingContext.setContext(context);
         return tracingContext;
     }
@@ -237,9 +258,23 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
      */
     class TracingContext implements AutoCloseable {
 
+        private static final AtomicReferenceFieldUpdater<TracingContext, Thread> OWNER = AtomicReferenceFieldUpdater
+            .newUpdater(TracingContext.class, Thread.class, "scopeOwner");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<TracingContext, Map> SCOPES = AtomicReferenceFieldUpdater
+            .newUpdater(TracingContext.class, Map.class, "scopes");
+
         private @Nullable Span span;
 
-        private Map<Thread, CurrentTraceContext.Scope> scopes = new ConcurrentHashMap<>();
+        // The first thread that opens a scope owns the inline slot, scopes opened on any
+        // other thread at the same time go to the lazily created overflow map
+        private volatile @Nullable Thread scopeOwner;
+
+        // Only ever read and written by the scopeOwner thread
+        private CurrentTraceContext.@Nullable Scope ownerScope;
+
+        private volatile @Nullable Map<Thread, CurrentTraceContext.Scope> scopes;
 
         private Observation.@Nullable ContextView context;
 
@@ -264,7 +299,12 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
          * @return scope of the span
          */
         public CurrentTraceContext.@Nullable Scope getScope() {
-            return this.scopes.get(Thread.currentThread());
+            Thread currentThread = Thread.currentThread();
+            if (this.scopeOwner == currentThread) {
+                return this.ownerScope;
+            }
+            Map<Thread, CurrentTraceContext.Scope> scopes = this.scopes;
+            return scopes != null ? scopes.get(currentThread) : null;
         }
 
         /**
@@ -272,14 +312,44 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
          * @param scope scope to set
          */
         public void setScope(CurrentTraceContext.@Nullable Scope scope) {
+            Thread currentThread = Thread.currentThread();
+            if (this.scopeOwner == currentThread) {
+                this.ownerScope = scope;
+                if (scope == null) {
+                    // Release the inline slot so that another thread can claim it
+                    this.scopeOwner = null;
+                }
+                return;
+            }
             if (scope == null) {
-                this.scopes.remove(Thread.currentThread());
+                Map<Thread, CurrentTraceContext.Scope> scopes = this.scopes;
+                if (scopes != null) {
+                    scopes.remove(currentThread);
+                }
+            }
+            else if (OWNER.compareAndSet(this, null, currentThread)) {
+                this.ownerScope = scope;
+                // A scope of this thread could have been stored while another thread
+                // owned the inline slot
+                Map<Thread, CurrentTraceContext.Scope> scopes = this.scopes;
+                if (scopes != null) {
+                    scopes.remove(currentThread);
+                }
             }
             else {
-                this.scopes.put(Thread.currentThread(), scope);
+                overflowScopes().put(currentThread, scope);
             }
         }
 
+        private Map<Thread, CurrentTraceContext.Scope> overflowScopes() {
+            Map<Thread, CurrentTraceContext.Scope> scopes = this.scopes;
+            if (scopes == null) {
+                SCOPES.compareAndSet(this, null, new ConcurrentHashMap<>());
+                scopes = Objects.requireNonNull(this.scopes);
+            }
+            return scopes;
+        }
+
         /**
          * Returns the baggage corresponding to this span.
          * @return baggage attached to the span
@@ -327,7 +397,10 @@ public interface TracingObservationHandler<T extends Observation.Context> extend
         }
 
         void setContext(Observation.ContextView context) {
-            this.context = context;
+            // Called on every handler callback - avoid rewriting the same reference
+            if (this.context != context) {
+                this.context = context;
+            }
         }
 
         Observation.@Nullable ContextView getContext() {
@@ -27,9 +27,6 @@ import java.util.Arrays;
  */
 public final class EncodingUtils {
 
-    @SuppressWarnings("unchecked")
-    private static final ThreadLocal<char[]> charBuffer = new ThreadLocal();
-
     static final int LONG_BYTES = Long.SIZE / Byte.SIZE;
 
     static final int BYTE_BASE16 = 2;
@@ -76,11 +73,40 @@ public final class EncodingUtils {
             return new long[] { 0 };
         }
         if (chars.length() == 32) {
-            long high = HexCodec.lenientLowerHexToUnsignedLong(chars, 0, 16);
-            long low = HexCodec.lenientLowerHexToUnsignedLong(chars, 16, 32);
+            long high = HexCodec.decodeLenient(chars, 0, 16);
+            long low = HexCodec.decodeLenient(chars, 16, 32);
             return new long[] { high, low };
         }
-        return new long[] { HexCodec.lenientLowerHexToUnsignedLong(chars, 0, 16) };
+        return new long[] { HexCodec.decodeLenient(chars, 0, 16) };
+    }
+
+    /**
+     * Returns the high 64 bits of a base16 encoded id, treating ids shorter than 32
+     * characters as if they were left padded with zeros.
+     * @param id the base16 representation of the id
+     * @return high 64 bits of the id or {@code 0} when not set or not valid base16
+     * @since 1.7.0
+     */
+    public static long highLongFromBase16String(@Nullable CharSequence id) {
+        if (id == null || id.length() <= LONG_BASE16) {
+            return 0L;
+        }
+        int end = id.length() - LONG_BASE16;
+        return HexCodec.decodeLenient(id, Math.max(0, end - LONG_BASE16), end);
+    }
+
+    /**
+     * Returns the low 64 bits of a base16 encoded id, i.e. the value of its last 16
+     * characters.
+     * @param id the base16 representation of the id
+     * @return low 64 bits of the id or {@code 0} when not set or not valid base16
+     * @since 1.7.0
+     */
+    public static long lowLongFromBase16String(@Nullable CharSequence id) {
+        if (id == null || id.length() == 0) {
+            return 0L;
+        }
+        return HexCodec.decodeLenient(id, Math.max(0, id.length() - LONG_BASE16), id.length());
     }
 
     /**
@@ -103,22 +129,10 @@ public final class EncodingUtils {
             return HexCodec.toLowerHex(idLow);
         }
         else {
-            char[] chars = getTemporaryBuffer();
-            longToBase16String(idHigh, chars, 0);
-            longToBase16String(idLow, chars, 16);
-            return new String(chars);
+            return HexCodec.toLowerHex(idHigh, idLow);
         }
     }
 
-    private static char[] getTemporaryBuffer() {
-        char[] chars = charBuffer.get();
-        if (chars == null) {
-            chars = new char[32];
-            charBuffer.set(chars);
-        }
-        return chars;
-    }
-
     /**
      * Returns the {@code long} value whose base16 representation is stored in the first
      * 16 chars of {@code chars} starting from the {@code offset}.
@@ -136,15 +150,7 @@ public final class EncodingUtils {
      * @return long from base16 string
      */
     static long longFromBase16String(CharSequence chars, int offset) {
-        isTrue(chars.length() >= offset + LONG_BASE16, "chars too small");
-        return (decodeByte(chars.charAt(offset), chars.charAt(offset + 1)) & 0xFFL) << 56
-                | (decodeByte(chars.charAt(offset + 2), chars.charAt(offset + 3)) & 0xFFL) << 48
-                | (decodeByte(chars.charAt(offset + 4), chars.charAt(offset + 5)) & 0xFFL) << 40
-                | (decodeByte(chars.charAt(offset + 6), chars.charAt(offset + 7)) & 0xFFL) << 32
-                | (decodeByte(chars.charAt(offset + 8), chars.charAt(offset + 9)) & 0xFFL) << 24
-                | (decodeByte(chars.charAt(offset + 10), chars.charAt(offset + 11)) & 0xFFL) << 16
-                | (decodeByte(chars.charAt(offset + 12), chars.charAt(offset + 13)) & 0xFFL) << 8
-                | (decodeByte(chars.charAt(offset + 14), chars.charAt(offset + 15)) & 0xFFL);
+        return HexCodec.decode(chars, offset);
     }
 
     private static void isTrue(boolean expression, String text) {
@@ -197,14 +203,7 @@ public final class EncodingUtils {
      * @param destOffset offset
      */
     public static void longToBase16String(long value, char[] dest, int destOffset) {
-        byteToBase16((byte) ((int) (value >> 56 & 255L)), dest, destOffset);
-        byteToBase16((byte) ((int) (value >> 48 & 255L)), dest, destOffset + 2);
-        byteToBase16((byte) ((int) (value >> 40 & 255L)), dest, destOffset + 4);
-        byteToBase16((byte) ((int) (value >> 32 & 255L)), dest, destOffset + 6);
-        byteToBase16((byte) ((int) (value >> 24 & 255L)), dest, destOffset + 8);
-        byteToBase16((byte) ((int) (value >> 16 & 255L)), dest, destOffset + 10);
-        byteToBase16((byte) ((int) (value >> 8 & 255L)), dest, destOffset + 12);
-        byteToBase16((byte) ((int) (value & 255L)), dest, destOffset + 14);
+        HexCodec.encode(value, dest, destOffset);
     }
 
     /**
@@ -227,98 +226,4 @@ public final class EncodingUtils {
         return 48 <= b && b <= 57;
     }
 
-    // taken from brave.internal.codec.HexCodec
-    static final class HexCodec {
-
-        static final char[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e',
-                'f' };
-
-        private HexCodec() {
-            throw new IllegalStateException("Can't instantiate a utility class");
-        }
-
-        /**
-         * Inspired by {@code okio.Buffer.writeLong}.
-         */
-        static String toLowerHex(long v) {
-            char[] data = RecyclableBuffers.parseBuffer();
-            writeHexLong(data, 0, v);
-            return new String(data, 0, 16);
-        }
-
-        /**
-         * Inspired by {@code okio.Buffer.writeLong}.
-         */
-        static void writeHexLong(char[] data, int pos, long v) {
-            writeHexByte(data, pos + 0, (byte) ((v >>> 56L) & 0xff));
-            writeHexByte(data, pos + 2, (byte) ((v >>> 48L) & 0xff));
-            writeHexByte(data, pos + 4, (byte) ((v >>> 40L) & 0xff));
-            writeHexByte(data, pos + 6, (byte) ((v >>> 32L) & 0xff));
-            writeHexByte(data, pos + 8, (byte) ((v >>> 24L) & 0xff));
-            writeHexByte(data, pos + 10, (byte) ((v >>> 16L) & 0xff));
-            writeHexByte(data, pos + 12, (byte) ((v >>> 8L) & 0xff));
-            writeHexByte(data, pos + 14, (byte) (v & 0xff));
-        }
-
-        static void writeHexByte(char[] data, int pos, byte b) {
-            data[pos + 0] = HEX_DIGITS[(b >> 4) & 0xf];
-            data[pos + 1] = HEX_DIGITS[b & 0xf];
-        }
-
-        /**
-         * Parses a 16 character lower-hex string with no prefix into an unsigned long,
-         * starting at the specified index., but returns zero on invalid input.
-         * @param value the sequence that contains a lower-hex encoded unsigned long.
-         * @param beginIndex the inclusive begin index:
-         * {@linkplain CharSequence#charAt(int) index} of the first lower-hex character
-         * representing the unsigned long.
-         * @param endIndex the exclusive end index: {@linkplain CharSequence#charAt(int)
-         * index} after the last lower-hex character representing the unsigned long.
-         */
-        static long lenientLowerHexToUnsignedLong(CharSequence value, int beginIndex, int endIndex) {
-            long result = 0;
-            int pos = beginIndex;
-            while (pos < endIndex) {
-                char c = value.charAt(pos++);
-                result <<= 4;
-                if (c >= '0' && c <= '9') {
-                    result |= c - '0';
-                }
-                else if (c >= 'a' && c <= 'f') {
-                    result |= c - 'a' + 10;
-                }
-                else {
-                    return 0;
-                }
-            }
-            return result;
-        }
-
-    }
-
-    // taken from brave
-    static final class RecyclableBuffers {
-
-        private RecyclableBuffers() {
-            throw new IllegalStateException("Can't instantiate a utility class");
-        }
-
-        private static final ThreadLocal<char[]> PARSE_BUFFER = new ThreadLocal<>();
-
-        /**
-         * Returns a {@link ThreadLocal} reused {@code char[]} for use when decoding bytes
-         * into an ID hex string. The buffer should be immediately copied into a
-         * {@link String} after decoding within the same method.
-         */
-        static char[] parseBuffer() {
-            char[] idBuffer = PARSE_BUFFER.get();
-            if (idBuffer == null) {
-                idBuffer = new char[32 + 1 + 16 + 3 + 16]; // traceid128-spanid-1-parentid
-                PARSE_BUFFER.set(idBuffer);
-            }
-            return idBuffer;
-        }
-
-    }
-
 }
@@ -0,0 +1,241 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.internal;
+
+/**
+ * Lower case base16 codec for trace and span ids. Eight characters are encoded and
+ * decoded at once, packed as ASCII bytes into a single {@code long} (SWAR - SIMD within a
+ * register), so neither lookup tables nor per character branches are needed.
+ *
+ * @since 1.7.0
+ */
+public final class HexCodec {
+
+    /**
+     * Number of base16 characters needed to represent a {@code long}.
+     */
+    public static final int LONG_BASE16 = 16;
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+    private HexCodec() {
+        throw new IllegalStateException("Can't instantiate a utility class");
+    }
+
+    /**
+     * Writes the 16 character base16 representation of the value into the destination.
+     * @param value value to encode
+     * @param dest destination array
+     * @param destOffset offset of the first character to write
+     */
+    public static void encode(long value, char[] dest, int destOffset) {
+        writeAscii(toAscii((int) (value >>> 32)), dest, destOffset);
+        writeAscii(toAscii((int) value), dest, destOffset + 8);
+    }
+
+    /**
+     * Writes the 16 character base16 representation of the value into the destination
+     * as ASCII bytes.
+     * @param value value to encode
+     * @param dest destination array
+     * @param destOffset offset of the first byte to write
+     */
+    public static void encode(long value, byte[] dest, int destOffset) {
+        writeAscii(toAscii((int) (value >>> 32)), dest, destOffset);
+        writeAscii(toAscii((int) value), dest, destOffset + 8);
+    }
+
+    /**
+     * Returns the 16 character base16 representation of the value.
+     * @param value value to encode
+     * @return base16 representation
+     */
+    public static String toLowerHex(long value) {
+        char[] chars = new char[LONG_BASE16];
+        encode(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the 32 character base16 representation of a 128 bit id.
+     * @param high high 64 bits of the id
+     * @param low low 64 bits of the id
+     * @return base16 representation
+     */
+    public static String toLowerHex(long high, long low) {
+        char[] chars = new char[2 * LONG_BASE16];
+        encode(high, chars, 0);
+        encode(low, chars, LONG_BASE16);
+        return new String(chars);
+    }
+
+    /**
+     * Decodes the 16 base16 characters starting at the offset.
+     * @param chars base16 representation of the value
+     * @param offset offset of the first character
+     * @return decoded value
+     * @throws IllegalArgumentException if there are less than 16 characters or any of
+     * them is not a lower case base16 character
+     */
+    public static long decode(CharSequence chars, int offset) {
+        if (chars.length() < offset + LONG_BASE16) {
+            throw new IllegalArgumentException("chars too small");
+        }
+        long high = pack(chars, offset);
+        long low = pack(chars, offset + 8);
+        if ((high | low) < 0) {
+            throw new IllegalArgumentException("invalid character " + firstInvalid(chars, offset));
+        }
+        return high << 32 | low;
+    }
+
+    /**
+     * Decodes the 16 base16 ASCII bytes starting at the offset.
+     * @param bytes base16 representation of the value
+     * @param offset offset of the first byte
+     * @return decoded value
+     * @throws IllegalArgumentException if there are less than 16 bytes or any of them is
+     * not a lower case base16 character
+     */
+    public static long decode(byte[] bytes, int offset) {
+        if (bytes.length < offset + LONG_BASE16) {
+            throw new IllegalArgumentException("bytes too small");
+        }
+        long high = pack(bytes, offset);
+        long low = pack(bytes, offset + 8);
+        if ((high | low) < 0) {
+            throw new IllegalArgumentException("invalid base16 bytes");
+        }
+        return high << 32 | low;
+    }
+
+    /**
+     * Decodes the base16 characters between the indexes, returning {@code 0} on invalid
+     * input instead of throwing an exception.
+     * @param chars base16 representation of the value
+     * @param beginIndex index of the first character, inclusive
+     * @param endIndex index of the last character, exclusive; at most 16 characters after
+     * {@code beginIndex}
+     * @return decoded value or {@code 0} when any character is not lower case base16
+     */
+    public static long decodeLenient(CharSequence chars, int beginIndex, int endIndex) {
+        if (endIndex - beginIndex == LONG_BASE16) {
+            long high = pack(chars, beginIndex);
+            long low = pack(chars, beginIndex + 8);
+            return (high | low) < 0 ? 0L : high << 32 | low;
+        }
+        long result = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            char c = chars.charAt(i);
+            result <<= 4;
+            if (c >= '0' && c <= '9') {
+                result |= c - '0';
+            }
+            else if (c >= 'a' && c <= 'f') {
+                result |= c - 'a' + 10;
+            }
+            else {
+                return 0L;
+            }
+        }
+        return result;
+    }
+
+    // spreads the 8 nibbles of the value over 8 bytes, most significant first, and
+    // turns each of them into its ASCII character
+    private static long toAscii(int value) {
+        long nibbles = value & 0xFFFFFFFFL;
+        nibbles = (nibbles | nibbles << 16) & 0x0000FFFF0000FFFFL;
+        nibbles = (nibbles | nibbles << 8) & 0x00FF00FF00FF00FFL;
+        nibbles = (nibbles | nibbles << 4) & LOW_NIBBLES;
+        long letters = ((nibbles + 0x06 * ONES) >>> 4) & ONES;
+        return nibbles + 0x30 * ONES + letters * ('a' - '0' - 10);
+    }
+
+    private static void writeAscii(long ascii, char[] dest, int destOffset) {
+        for (int i = 0; i < 8; i++) {
+            dest[destOffset + i] = (char) (ascii >>> (56 - (i << 3)) & 0xFF);
+        }
+    }
+
+    private static void writeAscii(long ascii, byte[] dest, int destOffset) {
+        for (int i = 0; i < 8; i++) {
+            dest[destOffset + i] = (byte) (ascii >>> (56 - (i << 3)));
+        }
+    }
+
+    private static long pack(CharSequence chars, int offset) {
+        long ascii = 0;
+        int seen = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = chars.charAt(offset + i);
+            seen |= c;
+            ascii = ascii << 8 | c;
+        }
+        return seen > 0x7F ? -1L : pack(ascii);
+    }
+
+    private static long pack(byte[] bytes, int offset) {
+        long ascii = 0;
+        int seen = 0;
+        for (int i = 0; i < 8; i++) {
+            int b = bytes[offset + i] & 0xFF;
+            seen |= b;
+            ascii = ascii << 8 | b;
+        }
+        return seen > 0x7F ? -1L : pack(ascii);
+    }
+
+    // turns 8 ASCII bytes into the 32 bit value they represent or -1 if any of them is
+    // not a lower case base16 character
+    private static long pack(long ascii) {
+        long digits = atLeast(ascii, '0') & atMost(ascii, '9');
+        long letters = atLeast(ascii, 'a') & atMost(ascii, 'f');
+        if ((digits | letters) != HIGH_BITS) {
+            return -1L;
+        }
+        long nibbles = (ascii & LOW_NIBBLES) + (letters >>> 7) * 9;
+        nibbles = (nibbles | nibbles >>> 4) & 0x00FF00FF00FF00FFL;
+        nibbles = (nibbles | nibbles >>> 8) & 0x0000FFFF0000FFFFL;
+        return (nibbles | nibbles >>> 16) & 0xFFFFFFFFL;
+    }
+
+    // sets the high bit of every byte that is >= bound; bytes have to be ASCII so that
+    // no borrow crosses byte boundaries
+    private static long atLeast(long ascii, int bound) {
+        return ((ascii | HIGH_BITS) - bound * ONES) & HIGH_BITS;
+    }
+
+    // sets the high bit of every byte that is <= bound
+    private static long atMost(long ascii, int bound) {
+        return ((bound | 0x80) * ONES - ascii) & HIGH_BITS;
+    }
+
+    private static char firstInvalid(CharSequence chars, int offset) {
+        for (int i = offset; i < offset + LONG_BASE16; i++) {
+            char c = chars.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return c;
+            }
+        }
+        throw new IllegalStateException("No invalid character found");
+    }
+
+}
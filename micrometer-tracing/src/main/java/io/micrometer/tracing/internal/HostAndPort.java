@@ -0,0 +1,230 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.internal;
+
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Host and port of a remote service address. Addresses in the
+ * {@code scheme://[user-info@]host[:port][/path][?query][#fragment]} form with a plain
+ * host name or IPv4 address are parsed without going through {@link URI}. Anything else
+ * falls back to {@link URI#create(String)}. Results are cached per address, since remote
+ * addresses tend to repeat.
+ *
+ * @since 1.7.0
+ */
+public final class HostAndPort {
+
+    private static final InternalLogger log = InternalLoggerFactory.getInstance(HostAndPort.class);
+
+    static final int MAX_CACHE_SIZE = 1024;
+
+    private static final HostAndPort UNRESOLVED = new HostAndPort("", -1);
+
+    private static final Map<String, HostAndPort> CACHE = new ConcurrentHashMap<>();
+
+    private final String host;
+
+    private final int port;
+
+    private HostAndPort(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Returns the host and port of the given address, the same way
+     * {@link URI#getHost()} and {@link URI#getPort()} would.
+     * @param address remote service address
+     * @return host and port or {@code null} when the address has no host or can't be
+     * parsed
+     */
+    public static @Nullable HostAndPort parse(String address) {
+        HostAndPort hostAndPort = CACHE.get(address);
+        if (hostAndPort == null) {
+            hostAndPort = doParse(address);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                // addresses are not as repetitive as expected, start over
+                CACHE.clear();
+            }
+            CACHE.put(address, hostAndPort);
+        }
+        return hostAndPort != UNRESOLVED ? hostAndPort : null;
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    static int cacheSize() {
+        return CACHE.size();
+    }
+
+    private static HostAndPort doParse(String address) {
+        HostAndPort hostAndPort = parseSimpleAddress(address);
+        if (hostAndPort != null) {
+            return hostAndPort;
+        }
+        try {
+            URI uri = URI.create(address);
+            String host = uri.getHost();
+            return host != null ? new HostAndPort(host, uri.getPort()) : UNRESOLVED;
+        }
+        catch (Exception ex) {
+            log.warn("Exception [{}], occurred while trying to parse the uri [{}] to host and port.", ex, address);
+            return UNRESOLVED;
+        }
+    }
+
+    // returns null for anything that is not trivially parseable
+    private static @Nullable HostAndPort parseSimpleAddress(String address) {
+        int schemeEnd = address.indexOf("://");
+        if (schemeEnd <= 0 || !isScheme(address, schemeEnd)) {
+            return null;
+        }
+        int authorityStart = schemeEnd + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < address.length()) {
+            char c = address.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            authorityEnd++;
+        }
+        int hostStart = address.lastIndexOf('@', authorityEnd - 1) + 1;
+        if (hostStart < authorityStart) {
+            hostStart = authorityStart;
+        }
+        int hostEnd = authorityEnd;
+        int port = -1;
+        int colon = address.lastIndexOf(':', authorityEnd - 1);
+        if (colon >= hostStart) {
+            hostEnd = colon;
+            if (colon + 1 < authorityEnd) {
+                port = parsePort(address, colon + 1, authorityEnd);
+                if (port < 0) {
+                    return null;
+                }
+            }
+        }
+        if (!isHostName(address, hostStart, hostEnd) && !isIpV4Address(address, hostStart, hostEnd)) {
+            return null;
+        }
+        return new HostAndPort(address.substring(hostStart, hostEnd), port);
+    }
+
+    private static boolean isScheme(String address, int end) {
+        if (!isAlpha(address.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < end; i++) {
+            char c = address.charAt(i);
+            if (!isAlpha(c) && !isDigit(c) && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parsePort(String address, int start, int end) {
+        if (end - start > 9) {
+            return -1;
+        }
+        int port = 0;
+        for (int i = start; i < end; i++) {
+            char c = address.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            port = port * 10 + (c - '0');
+        }
+        return port;
+    }
+
+    // labels of letters, digits and inner hyphens, the last one starting with a letter
+    private static boolean isHostName(String address, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? address.charAt(i) : '.';
+            if (c == '.') {
+                if (i == labelStart || address.charAt(i - 1) == '-') {
+                    return false;
+                }
+                if (i == end && !isAlpha(address.charAt(labelStart))) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+            else if (!isAlpha(c) && !isDigit(c) && (c != '-' || i == labelStart)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIpV4Address(String address, int start, int end) {
+        int octets = 0;
+        int octetStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && address.charAt(i) != '.') {
+                continue;
+            }
+            int octet = parsePort(address, octetStart, i);
+            if (i == octetStart || i - octetStart > 3 || octet < 0 || octet > 255) {
+                return false;
+            }
+            octets++;
+            octetStart = i + 1;
+        }
+        return octets == 4;
+    }
+
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns the host.
+     * @return host
+     */
+    public String getHost() {
+        return this.host;
+    }
+
+    /**
+     * Returns the port.
+     * @return port or {@code -1} if the address has no port
+     */
+    public int getPort() {
+        return this.port;
+    }
+
+    @Override
+    public String toString() {
+        return "HostAndPort{" + "host='" + this.host + '\'' + ", port=" + this.port + '}';
+    }
+
+}
@@ -91,6 +91,24 @@ public interface Propagator {
      */
     <C> Span.Builder extract(@Nullable C carrier, Getter<C> getter);
 
+    /**
+     * Extracts only the trace context from upstream, without preparing a span. Useful
+     * when many carriers need to be inspected at once, e.g. to link a batch of messages
+     * to a single span.
+     * <p>
+     * The Brave and OpenTelemetry propagators implement it. By default no trace context
+     * is extracted, so callers treat the carrier as if it had none.
+     * @param carrier holds propagation fields. For example, an incoming message.
+     * @param getter invoked for each propagation key to get.
+     * @param <C> carrier of propagation fields, such as an http request.
+     * @return the extracted trace context or {@code null} when there's none or the
+     * implementation doesn't support extracting just the context
+     * @since 1.7.0
+     */
+    default <C> @Nullable TraceContext extractContext(@Nullable C carrier, Getter<C> getter) {
+        return null;
+    }
+
     /**
      * Class that allows a {@code Propagator} to set propagated fields into a carrier.
      *
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class BaggageFieldIndexTests {
+
+    @Test
+    void should_match_fields_ignoring_case() {
+        BaggageFieldIndex index = BaggageFieldIndex.of(Arrays.asList("foo", "Bar-Baz", "COUNTRY-CODE"));
+
+        then(index.isEmpty()).isFalse();
+        then(index.contains("foo")).isTrue();
+        then(index.contains("FOO")).isTrue();
+        then(index.contains("bar-baz")).isTrue();
+        then(index.contains("country-code")).isTrue();
+        then(index.contains("fo")).isFalse();
+        then(index.contains("foo2")).isFalse();
+        then(index.contains("")).isFalse();
+    }
+
+    @Test
+    void should_return_empty_index_for_no_fields() {
+        BaggageFieldIndex index = BaggageFieldIndex.of(Collections.emptyList());
+
+        then(index).isSameAs(BaggageFieldIndex.EMPTY);
+        then(index.isEmpty()).isTrue();
+        then(index.contains("foo")).isFalse();
+    }
+
+}
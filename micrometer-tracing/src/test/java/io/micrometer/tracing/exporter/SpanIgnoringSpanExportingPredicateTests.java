@@ -18,6 +18,8 @@ package io.micrometer.tracing.exporter;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.BDDMockito;
 
 import static org.assertj.core.api.BDDAssertions.then;
@@ -25,8 +27,12 @@ import static org.assertj.core.api.BDDAssertions.then;
 class SpanIgnoringSpanExportingPredicateTests {
 
     private FinishedSpan namedSpan() {
+        return namedSpan("someName");
+    }
+
+    private FinishedSpan namedSpan(String name) {
         FinishedSpan span = BDDMockito.mock(FinishedSpan.class);
-        BDDMockito.given(span.getName()).willReturn("someName");
+        BDDMockito.given(span.getName()).willReturn(name);
         return span;
     }
 
@@ -46,26 +52,44 @@ class SpanIgnoringSpanExportingPredicateTests {
         then(handler.isExportable(namedSpan())).isFalse();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "someName", "some.*", "some.ame", "[a-z]+Name", ".*Name", "other|someName" })
+    void should_not_handle_span_matching_pattern(String pattern) {
+        then(handler(pattern).isExportable(namedSpan())).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "some", "someName.+", "Some.*", "someName\\.", "other" })
+    void should_handle_span_not_matching_pattern(String pattern) {
+        then(handler(pattern).isExportable(namedSpan())).isTrue();
+    }
+
     @Test
-    void should_use_cached_entry_for_same_patterns() {
-        export(handler("someOtherName"));
-        export(handler("someOtherName"));
-        export(handler("someOtherName"));
+    void should_not_match_line_terminators_with_prefix_pattern() {
+        then(handler("some.*").isExportable(namedSpan("some\nName"))).isTrue();
+        then(handler("some.*").isExportable(namedSpan("some Name"))).isFalse();
+    }
 
-        then(SpanIgnoringSpanExportingPredicate.cache).containsKey("someOtherName");
+    @Test
+    void should_cache_verdict_per_span_name() {
+        SpanIgnoringSpanExportingPredicate handler = handler("a.*");
 
-        export(handler("a"));
-        export(handler("b"));
-        export(handler("c"));
+        then(handler.isExportable(namedSpan("abc"))).isFalse();
+        then(handler.isExportable(namedSpan("abc"))).isFalse();
+        then(handler.isExportable(namedSpan("xyz"))).isTrue();
 
-        then(SpanIgnoringSpanExportingPredicate.cache).containsKey("someOtherName")
-            .containsKey("a")
-            .containsKey("b")
-            .containsKey("c");
+        then(handler.cacheSize()).isEqualTo(2);
     }
 
-    private void export(SpanIgnoringSpanExportingPredicate handler) {
-        handler.isExportable(namedSpan());
+    @Test
+    void should_bound_the_verdict_cache() {
+        SpanIgnoringSpanExportingPredicate handler = handler("a.*");
+
+        for (int i = 0; i < SpanIgnoringSpanExportingPredicate.MAX_CACHE_SIZE * 2; i++) {
+            handler.isExportable(namedSpan("name" + i));
+        }
+
+        then(handler.cacheSize()).isLessThanOrEqualTo(SpanIgnoringSpanExportingPredicate.MAX_CACHE_SIZE);
     }
 
     private SpanIgnoringSpanExportingPredicate handler(String name) {
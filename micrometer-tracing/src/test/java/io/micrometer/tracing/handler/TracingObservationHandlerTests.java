@@ -15,6 +15,7 @@
  */
 package io.micrometer.tracing.handler;
 
+import io.micrometer.common.KeyValue;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.Observation.Event;
 import io.micrometer.tracing.CurrentTraceContext;
@@ -25,6 +26,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 import org.mockito.InOrder;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,6 +100,65 @@ class TracingObservationHandlerTests {
         assertThat(tracingContext.getSpan()).isSameAs(span);
     }
 
+    @Test
+    void tracingContextShouldBeCreatedOnceAndReused() {
+        Observation.Context context = new Observation.Context();
+        TracingObservationHandler<Observation.Context> handler = () -> tracer;
+
+        TracingObservationHandler.TracingContext tracingContext = handler.getTracingContext(context);
+
+        assertThat(tracingContext.getContext()).isSameAs(context);
+        assertThat(handler.getTracingContext(context)).isSameAs(tracingContext);
+        assertThat((Object) context.get(TracingObservationHandler.TracingContext.class)).isSameAs(tracingContext);
+    }
+
+    @Test
+    void manuallyPutTracingContextShouldBeBoundToObservationContext() {
+        Observation.Context context = new Observation.Context();
+        TracingObservationHandler.TracingContext tracingContext = new TracingObservationHandler.TracingContext();
+        context.put(TracingObservationHandler.TracingContext.class, tracingContext);
+        TracingObservationHandler<Observation.Context> handler = () -> tracer;
+
+        assertThat(handler.getTracingContext(context)).isSameAs(tracingContext);
+        assertThat(tracingContext.getContext()).isSameAs(context);
+    }
+
+    @Test
+    void scopesShouldBeTrackedPerThread() throws Exception {
+        TracingObservationHandler.TracingContext tracingContext = new TracingObservationHandler.TracingContext();
+        CurrentTraceContext.Scope mainScope = mock(CurrentTraceContext.Scope.class);
+        CurrentTraceContext.Scope otherScope = mock(CurrentTraceContext.Scope.class);
+        CurrentTraceContext.Scope nestedOtherScope = mock(CurrentTraceContext.Scope.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            tracingContext.setScope(mainScope);
+            executor.submit(() -> {
+                assertThat(tracingContext.getScope()).isNull();
+                tracingContext.setScope(otherScope);
+                assertThat(tracingContext.getScope()).isSameAs(otherScope);
+            }).get();
+
+            assertThat(tracingContext.getScope()).isSameAs(mainScope);
+            tracingContext.setScope(null);
+            assertThat(tracingContext.getScope()).isNull();
+
+            executor.submit(() -> {
+                assertThat(tracingContext.getScope()).isSameAs(otherScope);
+                tracingContext.setScope(nestedOtherScope);
+                assertThat(tracingContext.getScope()).isSameAs(nestedOtherScope);
+                tracingContext.setScope(otherScope);
+                assertThat(tracingContext.getScope()).isSameAs(otherScope);
+                tracingContext.setScope(null);
+                assertThat(tracingContext.getScope()).isNull();
+            }).get();
+
+            assertThat(tracingContext.getScope()).isNull();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void eventTimestamp() {
         Span span = mock(Span.class);
@@ -127,4 +189,42 @@ class TracingObservationHandlerTests {
         BDDMockito.then(span).should().event("walltime-event", 100, TimeUnit.MILLISECONDS);
     }
 
+    @Test
+    void noopSpanShouldNotBeNamedNorTagged() {
+        Span span = mock(Span.class);
+        given(span.isNoop()).willReturn(true);
+        Observation.Context context = noopSpanContext(span);
+
+        new DefaultTracingObservationHandler(tracer).onStop(context);
+
+        BDDMockito.then(span).should().end();
+        BDDMockito.then(span).should(BDDMockito.never()).name(BDDMockito.anyString());
+        BDDMockito.then(span).should(BDDMockito.never()).tag(BDDMockito.anyString(), BDDMockito.anyString());
+    }
+
+    @Test
+    void noopSpanShouldBeNamedAndTaggedWhenEnabled() {
+        Span span = mock(Span.class);
+        given(span.isNoop()).willReturn(true);
+        Observation.Context context = noopSpanContext(span);
+        DefaultTracingObservationHandler handler = new DefaultTracingObservationHandler(tracer);
+        handler.setTagNoopSpans(true);
+
+        handler.onStop(context);
+
+        BDDMockito.then(span).should().name("foo");
+        BDDMockito.then(span).should().tag("key", "value");
+        BDDMockito.then(span).should().end();
+    }
+
+    private Observation.Context noopSpanContext(Span span) {
+        Observation.Context context = new Observation.Context();
+        context.setName("foo");
+        context.addLowCardinalityKeyValue(KeyValue.of("key", "value"));
+        TracingObservationHandler.TracingContext tracingContext = new TracingObservationHandler.TracingContext();
+        tracingContext.setSpan(span);
+        context.put(TracingObservationHandler.TracingContext.class, tracingContext);
+        return context;
+    }
+
 }
@@ -128,6 +128,22 @@ class EncodingUtilsTests {
         then(ids[1]).isEqualTo(-2527666130553651155L);
     }
 
+    @Test
+    void highAndLowLongFromBase16String() {
+        then(EncodingUtils.highLongFromBase16String("0b6aaf642574edd3dcebed0be190402d"))
+            .isEqualTo(822662726608547283L);
+        then(EncodingUtils.lowLongFromBase16String("0b6aaf642574edd3dcebed0be190402d"))
+            .isEqualTo(-2527666130553651155L);
+        then(EncodingUtils.highLongFromBase16String("0b6aaf642574edd3")).isZero();
+        then(EncodingUtils.lowLongFromBase16String("0b6aaf642574edd3")).isEqualTo(822662726608547283L);
+        then(EncodingUtils.highLongFromBase16String("2574edd3dcebed0be190402d")).isEqualTo(0x2574edd3L);
+        then(EncodingUtils.lowLongFromBase16String("edd3")).isEqualTo(0xedd3L);
+        then(EncodingUtils.lowLongFromBase16String("not-hex")).isZero();
+        then(EncodingUtils.highLongFromBase16String(null)).isZero();
+        then(EncodingUtils.lowLongFromBase16String(null)).isZero();
+        then(EncodingUtils.lowLongFromBase16String("")).isZero();
+    }
+
     @Test
     void toFromBase16String() {
         toFromBase16StringValidate(0x8000000000000000L);
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.tracing.internal;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class HexCodecTests {
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x0b6aaf642574edd3L, 0xdcebed0be190402dL,
+            0x1213141516171819L, 0xFFEEDDCCBBAA9988L })
+    void should_encode_and_decode_like_jdk(long value) {
+        String expected = String.format("%016x", value);
+        char[] chars = new char[20];
+        byte[] bytes = new byte[20];
+
+        HexCodec.encode(value, chars, 2);
+        HexCodec.encode(value, bytes, 2);
+
+        then(new String(chars, 2, 16)).isEqualTo(expected);
+        then(new String(bytes, 2, 16, StandardCharsets.US_ASCII)).isEqualTo(expected);
+        then(HexCodec.toLowerHex(value)).isEqualTo(expected);
+        then(HexCodec.decode(expected, 0)).isEqualTo(value);
+        then(HexCodec.decode(bytes, 2)).isEqualTo(value);
+        then(HexCodec.decodeLenient(expected, 0, 16)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0123456789gbcdef", "0123456789ABCDEF", "01234567/9abcdef", "0123456789abcde:",
+            "0123456789abcde`", "0123456789abcde\u0121" })
+    void should_reject_invalid_characters(String value) {
+        thenThrownBy(() -> HexCodec.decode(value, 0)).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("invalid character");
+        thenThrownBy(() -> HexCodec.decode(value.getBytes(StandardCharsets.UTF_8), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        then(HexCodec.decodeLenient(value, 0, 16)).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "0123456789abcde" })
+    void should_reject_too_short_input(String value) {
+        thenThrownBy(() -> HexCodec.decode(value, 0)).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("chars too small");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "a", "edd3", "2574edd3" })
+    void should_decode_shorter_ids_leniently(String value) {
+        then(HexCodec.decodeLenient(value, 0, value.length())).isEqualTo(Long.parseLong(value, 16));
+    }
+
+}